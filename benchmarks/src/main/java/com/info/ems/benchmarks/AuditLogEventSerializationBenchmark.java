@@ -0,0 +1,100 @@
+package com.info.ems.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import com.info.ems.constants.AuditLogSerialization;
+import com.info.ems.constants.Constants;
+import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.kafka.serialization.AuditLogEventDeserializer;
+import com.info.ems.kafka.serialization.AuditLogEventSerializer;
+import com.info.ems.kafka.serialization.AuditLogSchemaRegistry;
+
+/**
+ * Audit log event serialization in each wire format, as done by the Kafka producer, and deserialization,
+ * as done by the consumer. The serialization benchmarks also report the size of the payload in bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditLogEventSerializationBenchmark {
+
+    @Param({"JSON", "AVRO"})
+    private AuditLogSerialization serialization;
+
+    private AuditLogEventSerializer serializer;
+    private AuditLogEventDeserializer deserializer;
+    private AuditLogEvent createEvent;
+    private AuditLogEvent updateEvent;
+    private byte[] createPayload;
+    private byte[] updatePayload;
+
+    /**
+     * Size of the last serialized payload; assigned rather than summed, so JMH reports the size itself.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        AuditLogSchemaRegistry schemaRegistry = new AuditLogSchemaRegistry();
+        serializer = new AuditLogEventSerializer(serialization, schemaRegistry);
+        // Configured as by the audit log consumer factory
+        JsonDeserializer<AuditLogEvent> jsonDeserializer = new JsonDeserializer<>(AuditLogEvent.class, false);
+        jsonDeserializer.addTrustedPackages("*");
+        deserializer = new AuditLogEventDeserializer(schemaRegistry, jsonDeserializer);
+        createEvent = BenchmarkData.createEvent(1);
+        updateEvent = BenchmarkData.updateEvent(1);
+        createPayload = serializer.serialize(Constants.SYSTEM_AUIDT_LOG_TOPIC, createEvent);
+        updatePayload = serializer.serialize(Constants.SYSTEM_AUIDT_LOG_TOPIC, updateEvent);
+    }
+
+    @TearDown
+    public void tearDown() {
+        deserializer.close();
+    }
+
+    @Benchmark
+    public byte[] createEvent(PayloadSize size) {
+        byte[] payload = serializer.serialize(Constants.SYSTEM_AUIDT_LOG_TOPIC, createEvent);
+        size.payloadBytes = payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public byte[] updateEvent(PayloadSize size) {
+        byte[] payload = serializer.serialize(Constants.SYSTEM_AUIDT_LOG_TOPIC, updateEvent);
+        size.payloadBytes = payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public AuditLogEvent deserializeCreateEvent() {
+        return deserializer.deserialize(Constants.SYSTEM_AUIDT_LOG_TOPIC, createPayload);
+    }
+
+    @Benchmark
+    public AuditLogEvent deserializeUpdateEvent() {
+        return deserializer.deserialize(Constants.SYSTEM_AUIDT_LOG_TOPIC, updatePayload);
+    }
+}
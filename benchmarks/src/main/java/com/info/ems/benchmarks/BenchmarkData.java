@@ -0,0 +1,83 @@
+package com.info.ems.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.info.ems.constants.AuditLogConstants;
+import com.info.ems.dtos.request.CreateAddress;
+import com.info.ems.dtos.request.CreateEmployee;
+import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.kafka.events.EmployeeSnapshot;
+import com.info.ems.kafka.events.FieldChange;
+import com.info.ems.models.Address;
+import com.info.ems.models.Employee;
+import com.info.ems.repositories.projections.EmployeeAddressRow;
+
+/**
+ * Sample employees and audit log events shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    // Addresses per employee, as in a typical record
+    static final int ADDRESSES = 3;
+
+    private BenchmarkData() {
+    }
+
+    static Employee employee(long id) {
+        List<Address> addresses = new ArrayList<>();
+        for (int i = 0; i < ADDRESSES; i++) {
+            addresses.add(Address.builder().id(id * ADDRESSES + i).street(i + " Main St").city("Ahmedabad")
+                    .state("Gujarat").postalCode("38000" + i).build());
+        }
+        return Employee.builder().id(id).name("Employee " + id).email("employee" + id + "@example.com")
+                .phone("98765" + id).hireDate(LocalDate.of(2024, 1, 15)).addresses(addresses).build();
+    }
+
+    static List<EmployeeAddressRow> rows(long id) {
+        List<EmployeeAddressRow> rows = new ArrayList<>();
+        for (Address address : employee(id).getAddresses()) {
+            rows.add(new EmployeeAddressRow(id, "Employee " + id, "employee" + id + "@example.com", "98765" + id,
+                    address.getId(), address.getStreet(), address.getCity(), address.getState(), address.getPostalCode()));
+        }
+        return rows;
+    }
+
+    static CreateEmployee createRequest(String email) {
+        List<CreateAddress> addresses = new ArrayList<>();
+        for (int i = 0; i < ADDRESSES; i++) {
+            addresses.add(CreateAddress.builder().street(i + " Main St").city("Ahmedabad").state("Gujarat")
+                    .postalCode("38000" + i).build());
+        }
+        return CreateEmployee.builder().name("Employee").email(email).phone("9876543210").addresses(addresses).build();
+    }
+
+    /**
+     * A CREATE event carrying the full employee.
+     */
+    static AuditLogEvent createEvent(long id) {
+        Employee employee = employee(id);
+        List<EmployeeSnapshot.AddressSnapshot> addresses = new ArrayList<>();
+        for (Address address : employee.getAddresses()) {
+            addresses.add(EmployeeSnapshot.AddressSnapshot.builder().id(address.getId()).street(address.getStreet())
+                    .city(address.getCity()).state(address.getState()).postalCode(address.getPostalCode()).build());
+        }
+        EmployeeSnapshot details = EmployeeSnapshot.builder().id(id).name(employee.getName()).email(employee.getEmail())
+                .phone(employee.getPhone()).hireDate(employee.getHireDate()).addresses(addresses).build();
+        return AuditLogEvent.builder().operation(AuditLogConstants.CREATE).timestamp(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .entityId(id).details(details).build();
+    }
+
+    /**
+     * An UPDATE event carrying two changed fields.
+     */
+    static AuditLogEvent updateEvent(long id) {
+        List<FieldChange> changes = List.of(
+                FieldChange.builder().field("phone").oldValue("98765" + id).newValue("91234" + id).build(),
+                FieldChange.builder().field("addresses[" + id * ADDRESSES + "].city").oldValue("Ahmedabad").newValue("Surat").build());
+        return AuditLogEvent.builder().operation(AuditLogConstants.UPDATE).timestamp(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .entityId(id).changes(changes).build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.info.ems.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import com.info.ems.EmployeeManagementSystemApplication;
+import com.info.ems.constants.Constants;
+import com.info.ems.dtos.request.CreateEmployee;
+import com.info.ems.dtos.request.PatchEmployee;
+import com.info.ems.dtos.response.BulkEmployeeResponseDto;
+import com.info.ems.dtos.response.EmployeePageResponseDto;
+import com.info.ems.dtos.response.EmployeeResponseDto;
+import com.info.ems.services.EmployeeService;
+
+/**
+ * {@link EmployeeService} calls through the full application context, against H2 in MySQL mode and an
+ * embedded Kafka broker. Writes include the audit log outbox insert; the outbox relay runs in the
+ * background as in production. The employee read cache is disabled so that reads reach the database.
+ * <p>
+ * {@code createEmployeesInBulk} and {@code createEmployeesOneByOne} both create {@value #BULK_SIZE} employees
+ * per invocation, through {@link EmployeeService#createEmployees} and {@link EmployeeService#createEmployee}
+ * respectively, and report their throughput in rows per second.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    // Employees created before the measurement starts
+    private static final int EMPLOYEES = 1000;
+
+    // Employees created per invocation by the bulk and one-by-one benchmarks, the size of an import chunk
+    private static final int BULK_SIZE = 500;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Long> employeeIds = new ArrayList<>();
+
+    private EmbeddedKafkaKraftBroker kafkaBroker;
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        kafkaBroker = new EmbeddedKafkaKraftBroker(1, 1);
+        kafkaBroker.afterPropertiesSet();
+
+        // Command line arguments, so that they take precedence over the packaged application.properties
+        context = new SpringApplicationBuilder(EmployeeManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--kafka.url=" + kafkaBroker.getBrokersAsString(),
+                        "--spring.datasource.url=jdbc:h2:mem:ems;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.cache.type=none",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.com.info.ems=warn");
+        employeeService = context.getBean(EmployeeService.class);
+
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employeeIds.add(employeeService.createEmployee(BenchmarkData.createRequest(nextEmail())).getId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        kafkaBroker.destroy();
+    }
+
+    @Benchmark
+    public EmployeeResponseDto getEmployeeById() {
+        return employeeService.getEmployeeById(randomEmployeeId());
+    }
+
+    @Benchmark
+    public EmployeePageResponseDto listEmployees() {
+        return employeeService.listEmployees(randomEmployeeId(), Constants.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public EmployeeResponseDto createEmployee() {
+        return employeeService.createEmployee(BenchmarkData.createRequest(nextEmail()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BULK_SIZE)
+    public List<BulkEmployeeResponseDto> createEmployeesInBulk() {
+        List<CreateEmployee> requests = new ArrayList<>(BULK_SIZE);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            requests.add(BenchmarkData.createRequest(nextEmail()));
+        }
+        return employeeService.createEmployees(requests);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BULK_SIZE)
+    public void createEmployeesOneByOne(Blackhole blackhole) {
+        for (int i = 0; i < BULK_SIZE; i++) {
+            blackhole.consume(employeeService.createEmployee(BenchmarkData.createRequest(nextEmail())));
+        }
+    }
+
+    @Benchmark
+    public EmployeeResponseDto patchEmployee() {
+        return employeeService.patchEmployee(randomEmployeeId(),
+                PatchEmployee.builder().phone(String.valueOf(9000000000L + sequence.incrementAndGet())).build());
+    }
+
+    private Long randomEmployeeId() {
+        return employeeIds.get(ThreadLocalRandom.current().nextInt(employeeIds.size()));
+    }
+
+    private String nextEmail() {
+        return "employee" + sequence.incrementAndGet() + "@example.com";
+    }
+}
@@ -0,0 +1,76 @@
+package com.info.ems.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.info.ems.dtos.response.EmployeeResponseDto;
+import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.mapper.AuditLogMapper;
+import com.info.ems.mapper.AuditLogMapperImpl;
+import com.info.ems.mapper.EmployeeMapper;
+import com.info.ems.mapper.EmployeeMapperImpl;
+import com.info.ems.models.AuditLog;
+import com.info.ems.models.Employee;
+import com.info.ems.repositories.projections.EmployeeAddressRow;
+
+/**
+ * MapStruct mappings on the employee read path and the audit log consumer path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final EmployeeMapper employeeMapper = new EmployeeMapperImpl();
+    private final AuditLogMapper auditLogMapper = new AuditLogMapperImpl();
+
+    private Employee employee;
+    private List<EmployeeAddressRow> rows;
+    private AuditLogEvent createEvent;
+    private AuditLogEvent updateEvent;
+
+    @Setup
+    public void setUp() {
+        employee = BenchmarkData.employee(1);
+        rows = BenchmarkData.rows(1);
+        createEvent = BenchmarkData.createEvent(1);
+        updateEvent = BenchmarkData.updateEvent(1);
+    }
+
+    @Benchmark
+    public EmployeeResponseDto employeeToDto() {
+        return employeeMapper.toDto(employee);
+    }
+
+    /**
+     * The projection read path: DTOs assembled from flat employee/address rows.
+     */
+    @Benchmark
+    public List<EmployeeResponseDto> employeeRowsToDto() {
+        return employeeMapper.fromRows(rows);
+    }
+
+    @Benchmark
+    public AuditLog createEventToEntity() {
+        return auditLogMapper.toEntity(createEvent);
+    }
+
+    @Benchmark
+    public AuditLog updateEventToEntity() {
+        return auditLogMapper.toEntity(updateEvent);
+    }
+}
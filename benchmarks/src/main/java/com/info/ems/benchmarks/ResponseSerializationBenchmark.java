@@ -0,0 +1,78 @@
+package com.info.ems.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.info.ems.constants.Constants;
+import com.info.ems.dtos.response.EmployeeResponseDto;
+import com.info.ems.dtos.response.Response;
+import com.info.ems.mapper.EmployeeMapper;
+import com.info.ems.mapper.EmployeeMapperImpl;
+
+/**
+ * Jackson serialization of the {@link Response} envelope returned by the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    // Configured like the ObjectMapper Spring Boot auto-configures for the controllers
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private Response employeeResponse;
+    private Response employeesResponse;
+
+    @Setup
+    public void setUp() {
+        EmployeeMapper employeeMapper = new EmployeeMapperImpl();
+        List<EmployeeResponseDto> employees = new ArrayList<>();
+        for (long id = 1; id <= Constants.DEFAULT_PAGE_SIZE; id++) {
+            employees.add(employeeMapper.toDto(BenchmarkData.employee(id)));
+        }
+        employeeResponse = response(employees.get(0));
+        employeesResponse = response(employees);
+    }
+
+    @Benchmark
+    public byte[] employee() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employeeResponse);
+    }
+
+    @Benchmark
+    public byte[] employeePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employeesResponse);
+    }
+
+    private static Response response(Object data) {
+        return Response.builder()
+                .status(HttpStatus.OK)
+                .statusCode(HttpStatus.OK.value())
+                .data(Map.of(Constants.DATA, data))
+                .message("Employee fetched successfully")
+                .build();
+    }
+}
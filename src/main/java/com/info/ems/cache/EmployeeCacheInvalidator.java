@@ -0,0 +1,136 @@
+package com.info.ems.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.info.ems.constants.Constants;
+import com.info.ems.dtos.response.EmployeeResponseDto;
+import com.info.ems.kafka.producers.CacheInvalidationProducerService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Invalidates cached employee reads after a write, on this node and on every other node, and guards the
+ * reads that fill the cache against writes that happen while they load.
+ * <p>
+ * The entry is evicted immediately and, when called inside a transaction, once more after the commit.
+ * The invalidation is broadcast to the other nodes once the write is committed. Evicting alone cannot stop
+ * a read that loaded the pre-write state before the commit from putting it back after the last eviction,
+ * so every eviction also bumps an invalidation generation: a read captures the generation of its key before
+ * loading and {@link #putIfUnchanged} drops the value if the generation moved in the meantime.
+ * </p>
+ */
+@Component
+@Slf4j
+public class EmployeeCacheInvalidator {
+
+    // Number of invalidation generations; keys sharing one only cost each other a skipped cache put
+    private static final int GENERATIONS = 1024;
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationProducerService cacheInvalidationProducerService;
+
+    // Invalidation generations, bumped before every eviction of a key hashing to them
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATIONS);
+
+    /**
+     * Constructor for injecting dependencies.
+     *
+     * @param cacheManager                     the cache manager holding the employee cache
+     * @param cacheInvalidationProducerService the service broadcasting invalidations to other nodes
+     */
+    @Autowired
+    public EmployeeCacheInvalidator(CacheManager cacheManager,
+                                    CacheInvalidationProducerService cacheInvalidationProducerService) {
+        this.cacheManager = cacheManager;
+        this.cacheInvalidationProducerService = cacheInvalidationProducerService;
+    }
+
+    /**
+     * Evicts the cached read of the given employee now and, after the current transaction commits,
+     * evicts it again and broadcasts the invalidation to the other nodes.
+     *
+     * @param id the ID of the employee that was written
+     */
+    public void invalidate(Long id) {
+        evict(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id);
+                    cacheInvalidationProducerService.publishInvalidation(Constants.EMPLOYEE_CACHE, id);
+                }
+            });
+        } else {
+            cacheInvalidationProducerService.publishInvalidation(Constants.EMPLOYEE_CACHE, id);
+        }
+    }
+
+    /**
+     * Evicts the cached read of the given employee from this node only.
+     *
+     * @param id the ID of the employee to evict
+     */
+    public void evict(Long id) {
+        generations.incrementAndGet(generationIndex(id));
+        Cache cache = employeeCache();
+        if (cache != null) {
+            log.trace("Evicting employee {} from cache", id);
+            cache.evict(id);
+        }
+    }
+
+    /**
+     * @param id the ID of the employee
+     * @return the cached read of the employee, or null if there is none
+     */
+    public EmployeeResponseDto get(Long id) {
+        Cache cache = employeeCache();
+        return cache == null ? null : cache.get(id, EmployeeResponseDto.class);
+    }
+
+    /**
+     * @param id the ID of the employee about to be loaded
+     * @return the invalidation generation to pass to {@link #putIfUnchanged} once the employee is loaded
+     */
+    public long generation(Long id) {
+        return generations.get(generationIndex(id));
+    }
+
+    /**
+     * Caches a loaded employee unless it was invalidated since the given generation was captured.
+     * <p>
+     * The generation is checked again after the put: an eviction that ran between the first check and
+     * the put has bumped it, and the value is evicted again rather than left in the cache.
+     * </p>
+     *
+     * @param id         the ID of the employee
+     * @param generation the generation returned by {@link #generation} before the employee was loaded
+     * @param employee   the loaded employee
+     */
+    public void putIfUnchanged(Long id, long generation, EmployeeResponseDto employee) {
+        Cache cache = employeeCache();
+        if (cache == null || generation(id) != generation) {
+            return;
+        }
+        cache.putIfAbsent(id, employee);
+        if (generation(id) != generation) {
+            cache.evict(id);
+        }
+    }
+
+    private Cache employeeCache() {
+        return cacheManager.getCache(Constants.EMPLOYEE_CACHE);
+    }
+
+    private static int generationIndex(Long id) {
+        return Math.floorMod(id.hashCode(), GENERATIONS);
+    }
+}
@@ -0,0 +1,141 @@
+package com.info.ems.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.info.ems.repositories.EmployeeRepository;
+import com.info.ems.utils.BloomFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory Bloom filter of the emails of all employees, used to skip the uniqueness lookup
+ * for emails that are definitely new.
+ * <p>
+ * The filter is filled at startup by streaming every email from the table on a background thread;
+ * until that finishes every email is reported as possibly taken so callers fall back to the database.
+ * Emails are never removed: a released email only costs an extra lookup, whereas removing an email this
+ * node never added would turn other emails into false negatives. Instead the filter is rebuilt from the
+ * table periodically, which drops released emails and picks up the ones taken on other nodes.
+ * </p>
+ * <p>
+ * The filter is per node, so it can miss an email taken on another node since the last rebuild. It is
+ * only a shortcut for single writes: the unique constraint on {@code employee.email} remains the source
+ * of truth and rejects those inserts, and bulk writes always query every email.
+ * </p>
+ */
+@Component
+@Slf4j
+public class EmployeeEmailFilter {
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    // The filter answering lookups, replaced as a whole by each rebuild
+    private volatile BloomFilter filter;
+
+    // The filter being built, also fed with the emails taken while the table is streamed
+    private volatile BloomFilter loading;
+
+    private volatile boolean ready;
+
+    /**
+     * Constructor for injecting dependencies and sizing the filter.
+     *
+     * @param employeeRepository       the repository the filter is built from
+     * @param transactionManager       the transaction manager used to stream the emails
+     * @param expectedInsertions       the number of employees the filter is sized for
+     * @param falsePositiveProbability the false positive probability at the expected size
+     */
+    @Autowired
+    public EmployeeEmailFilter(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager,
+                               @Value("${ems.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                               @Value("${ems.email-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.employeeRepository = employeeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    /**
+     * Starts loading every existing email into the filter once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        Thread.ofVirtual().name("ems-email-filter").start(this::load);
+    }
+
+    /**
+     * Rebuilds the filter from the table, see the class description.
+     */
+    @Scheduled(fixedDelayString = "${ems.email-filter.rebuild-interval-ms:3600000}",
+            initialDelayString = "${ems.email-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        load();
+    }
+
+    synchronized void load() {
+        long start = System.currentTimeMillis();
+        AtomicLong loaded = new AtomicLong();
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        loading = next;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = employeeRepository.streamAllEmails()) {
+                    emails.forEach(email -> {
+                        next.add(email);
+                        loaded.incrementAndGet();
+                    });
+                }
+            });
+            filter = next;
+            ready = true;
+            log.info("Email filter loaded {} emails in {} ms", loaded.get(), System.currentTimeMillis() - start);
+        } catch (RuntimeException ex) {
+            if (ready) {
+                log.error("Failed to rebuild email filter, keeping the previous one", ex);
+            } else {
+                // Stay in fallback mode: every lookup keeps going to the database
+                log.error("Failed to load email filter, uniqueness checks will always query the database", ex);
+            }
+        } finally {
+            loading = null;
+        }
+    }
+
+    /**
+     * @param email the email to check
+     * @return false if no employee has this email, true if one possibly has
+     */
+    public boolean mightExist(String email) {
+        return !ready || filter.mightContain(email);
+    }
+
+    /**
+     * Records an email that now belongs to an employee. Safe to call before the surrounding
+     * transaction commits: a rolled back add only costs an extra database lookup later.
+     *
+     * @param email the email that was taken
+     */
+    public void add(String email) {
+        // Read the filter being built first, so that an add racing with the end of a rebuild reaches the new filter
+        BloomFilter next = loading;
+        if (next != null) {
+            next.add(email);
+        }
+        filter.add(email);
+    }
+}
@@ -0,0 +1,31 @@
+package com.info.ems.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Application metrics besides the ones Spring Boot records out of the box.
+ * <p>
+ * Service methods annotated with {@code @Timed} are timed as {@code ems.employee.service}, tagged by
+ * operation and exception. Database time shows up per repository method as
+ * {@code spring.data.repository.invocations}, and the Kafka metrics as {@code ems.audit.*} and the
+ * {@code kafka.producer.*} / {@code kafka.consumer.*} client metrics.
+ * </p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Aspect recording the {@code @Timed} annotated methods of Spring beans.
+     *
+     * @param meterRegistry the registry the timers are published to
+     * @return the aspect
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
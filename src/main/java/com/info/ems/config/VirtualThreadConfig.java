@@ -0,0 +1,46 @@
+package com.info.ems.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration applied when the application runs on virtual threads ({@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * Spring Boot then serves Tomcat requests and scheduled tasks on virtual threads, and the Kafka listener
+ * container factories switch their listener executors as well. The only remaining bounded resource on the
+ * request path is the connection pool, which is guarded by a {@link ConnectionLimitingDataSource}.
+ * </p>
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * Wraps the Hikari pool in a {@link ConnectionLimitingDataSource} with as many permits as the pool has
+     * connections, and the pool's connection timeout as the permit timeout.
+     *
+     * @return the post processor wrapping the DataSource bean
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                // Apply Hikari's defaults now, the pool itself only starts with the first checkout
+                hikari.validate();
+                log.info("Limiting DataSource {} to {} concurrent connections", beanName, hikari.getMaximumPoolSize());
+                return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+            }
+        };
+    }
+}
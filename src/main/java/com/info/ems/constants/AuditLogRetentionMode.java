@@ -0,0 +1,11 @@
+package com.info.ems.constants;
+
+/**
+ * What happens to audit log partitions older than the retention period.
+ */
+public enum AuditLogRetentionMode {
+	// Drop the partition and its rows
+	DROP,
+	// Move the partition into its own audit_log_archive_<partition> table, then drop it
+	ARCHIVE
+}
@@ -0,0 +1,11 @@
+package com.info.ems.constants;
+
+/**
+ * Wire formats of audit log events on the {@link Constants#SYSTEM_AUIDT_LOG_TOPIC} topic.
+ */
+public enum AuditLogSerialization {
+	// Self-describing JSON, as produced by Spring Kafka's JsonSerializer
+	JSON,
+	// Avro binary with the single-object header (magic bytes + schema fingerprint)
+	AVRO
+}
@@ -6,6 +6,41 @@ public final class Constants {
 	  public static final String DATA = "data";
 	  public static final String ID = "id";
 	  public static final String DELETED = "deleted";
+	  public static final String CREATED = "created";
+	  public static final String REJECTED = "rejected";
+
+	  // Bulk operations
+	  public static final int BULK_CREATE_MAX_SIZE = 10000;
+
+	  // Partial updates (RFC 7396)
+	  public static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+	  // Keyset pagination
+	  public static final int DEFAULT_PAGE_SIZE = 50;
+	  public static final int MAX_PAGE_SIZE = 500;
+
+	  // Audit log reports
+	  public static final int DEFAULT_REPORT_DAYS = 30;
+
+	  // Audit log storage
+	  public static final String AUDIT_LOG_TABLE = "audit_log";
+
+	  // Database constraints
+	  public static final String EMPLOYEE_EMAIL_UNIQUE_CONSTRAINT = "uk_employee_email";
+
+	  // Caches
+	  public static final String EMPLOYEE_CACHE = "employees";
+
+	  // Streaming export
+	  // MySQL Connector/J only streams a result set row by row when the fetch size is Integer.MIN_VALUE;
+	  // other drivers reject a negative fetch size and stream in batches of a positive one instead
+	  public static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+	  public static final int STREAMING_FETCH_SIZE = 1000;
+	  public static final int EXPORT_FLUSH_INTERVAL = 1000;
+
+	  // Metrics
+	  public static final String EMPLOYEE_SERVICE_TIMER = "ems.employee.service";
+	  public static final String OPERATION = "operation";
 
 	  // Exceptions
 	  public static final String CLASS = "class";
@@ -23,5 +58,16 @@ public final class Constants {
 	    // hour * minutes * seconds * milliseconds
 	    public static final String SYSTEM_AUIDT_LOG_SEGMENT_RETENTION = String.valueOf(60000);
 
+	    // Audit log events the consumer could not store, kept for inspection and replay
+	    public static final String SYSTEM_AUIDT_LOG_DLT_TOPIC = SYSTEM_AUIDT_LOG_TOPIC + ".DLT";
+
+	    // days * hours * minutes * seconds * milliseconds
+	    public static final String SYSTEM_AUIDT_LOG_DLT_RETENTION = String.valueOf(7L * 24 * 60 * 60 * 1000);
+
+	    public static final String CACHE_INVALIDATION_TOPIC = "EMS_CACHE_INVALIDATION";
+
+	    // Invalidations are only useful to nodes that are running right now
+	    public static final String CACHE_INVALIDATION_RETENTION = String.valueOf(60000);
+
 	  private Constants() {}
 	}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.info.ems.constants;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import com.info.ems.exceptions.InvalidRequestParameterException;
+
+/**
+ * Output formats supported by the employee export endpoint.
+ */
+public enum ExportFormat {
+	NDJSON("application/x-ndjson", "ndjson"),
+	CSV("text/csv", "csv");
+
+	private final String contentType;
+	private final String fileExtension;
+
+	ExportFormat(String contentType, String fileExtension) {
+		this.contentType = contentType;
+		this.fileExtension = fileExtension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String getFileExtension() {
+		return fileExtension;
+	}
+
+	/**
+	 * Resolves a format from its case-insensitive name.
+	 *
+	 * @param format the requested format, e.g. {@code ndjson} or {@code csv}
+	 * @return the matching format
+	 * @throws InvalidRequestParameterException if the format is not supported
+	 */
+	public static ExportFormat from(String format) {
+		for (ExportFormat exportFormat : values()) {
+			if (exportFormat.name().equalsIgnoreCase(format.trim())) {
+				return exportFormat;
+			}
+		}
+		throw new InvalidRequestParameterException("Unsupported export format, expected one of "
+				+ Arrays.stream(values()).map(ExportFormat::getFileExtension).collect(Collectors.joining(", ")) + ".");
+	}
+}
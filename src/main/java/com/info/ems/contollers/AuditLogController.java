@@ -0,0 +1,115 @@
+package com.info.ems.contollers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.info.ems.constants.Constants;
+import com.info.ems.dtos.response.AuditLogDailyCountResponseDto;
+import com.info.ems.dtos.response.AuditLogPageResponseDto;
+import com.info.ems.dtos.response.Response;
+import com.info.ems.services.AuditLogService;
+
+/**
+ * AuditLogController class handles HTTP requests for querying the audit trail of employee changes.
+ * <p>
+ * All endpoints in this controller are prefixed with /api/v1/audit-logs and support Cross-Origin Resource Sharing (CORS).
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/audit-logs")
+@CrossOrigin("*")
+public class AuditLogController {
+
+    private final AuditLogService auditLogService;
+
+    /**
+     * Constructor to initialize the audit log service dependency.
+     * 
+     * @param auditLogService The service responsible for audit log queries.
+     */
+    @Autowired
+    public AuditLogController(AuditLogService auditLogService) {
+        this.auditLogService = auditLogService;
+    }
+
+    /**
+     * Endpoint to search audit logs, newest first, using keyset pagination.
+     * 
+     * @param entityId  Only entries of this employee.
+     * @param operation Only entries of this operation (CREATE, UPDATE or DELETE).
+     * @param from      Only entries at or after this time (ISO date-time).
+     * @param to        Only entries before this time (ISO date-time).
+     * @param cursor    The {@code nextCursor} of the previous page; omit it for the first page.
+     * @param limit     The maximum number of entries to return.
+     * @return A ResponseEntity containing the page of audit logs and the cursor for the next page.
+     */
+    @GetMapping
+    public ResponseEntity<Response> searchAuditLogs(
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) String operation,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_PAGE_SIZE) int limit) {
+        // Fetch one page of audit logs matching the filters
+        AuditLogPageResponseDto page = auditLogService.searchAuditLogs(entityId, operation, from, to, cursor, limit);
+
+        // Build and return the response with the page data
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(
+                        Response
+                                .builder()
+                                .status(HttpStatus.OK)
+                                .statusCode(HttpStatus.OK.value())
+                                .data(Map.of(Constants.DATA, page))
+                                .message("Audit logs found successfully")
+                                .build());
+    }
+
+    /**
+     * Endpoint to report the number of audit log entries per day and operation.
+     * <p>
+     * Counts come from the daily rollup table, so the report never scans the audit log itself.
+     * </p>
+     * 
+     * @param from      The first day (ISO date), inclusive; defaults to 30 days before {@code to}.
+     * @param to        The last day (ISO date), exclusive; defaults to tomorrow.
+     * @param operation Only counts of this operation (CREATE, UPDATE or DELETE).
+     * @return A ResponseEntity containing the daily counts.
+     */
+    @GetMapping("/daily-counts")
+    public ResponseEntity<Response> getDailyCounts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String operation) {
+        LocalDate end = to == null ? LocalDate.now().plusDays(1) : to;
+        LocalDate start = from == null ? end.minusDays(Constants.DEFAULT_REPORT_DAYS) : from;
+        // Fetch the daily counts of the range
+        List<AuditLogDailyCountResponseDto> counts = auditLogService.getDailyCounts(start, end, operation);
+
+        // Build and return the response with the counts
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(
+                        Response
+                                .builder()
+                                .status(HttpStatus.OK)
+                                .statusCode(HttpStatus.OK.value())
+                                .data(Map.of(Constants.DATA, counts))
+                                .message("Audit log counts found successfully")
+                                .build());
+    }
+}
@@ -1,26 +1,42 @@
 package com.info.ems.contollers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.info.ems.constants.Constants;
+import com.info.ems.constants.ExportFormat;
 import com.info.ems.dtos.request.CreateEmployee;
+import com.info.ems.dtos.request.CreateEmployees;
+import com.info.ems.dtos.request.PatchEmployee;
+import com.info.ems.dtos.response.BulkEmployeeResponseDto;
+import com.info.ems.dtos.response.EmployeePageResponseDto;
+import com.info.ems.dtos.response.ImportSummaryResponseDto;
 import com.info.ems.dtos.response.EmployeeResponseDto;
 import com.info.ems.dtos.response.Response;
+import com.info.ems.services.EmployeeExportService;
+import com.info.ems.services.EmployeeImportService;
 import com.info.ems.services.EmployeeService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 /**
@@ -36,15 +52,22 @@ import jakarta.validation.Valid;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeImportService employeeImportService;
 
     /**
-     * Constructor to initialize the EmployeeService dependency.
+     * Constructor to initialize the employee, export and import service dependencies.
      * 
-     * @param employeeService The service responsible for employee-related business logic.
+     * @param employeeService       The service responsible for employee-related business logic.
+     * @param employeeExportService The service responsible for streaming employee exports.
+     * @param employeeImportService The service responsible for streaming CSV imports.
      */
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeExportService employeeExportService,
+                              EmployeeImportService employeeImportService) {
         this.employeeService = employeeService;
+        this.employeeExportService = employeeExportService;
+        this.employeeImportService = employeeImportService;
     }
 
     /**
@@ -71,6 +94,66 @@ public class EmployeeController {
                                 .build());
     }
 
+    /**
+     * Endpoint to create many employees in one request.
+     * <p>
+     * Each item is reported individually, so a conflicting email does not fail the rest of the batch.
+     * </p>
+     * 
+     * @param request The employees to be created.
+     * @return A ResponseEntity containing one result per requested employee, in request order.
+     */
+    @PostMapping("/create-employees")
+    public ResponseEntity<Response> createEmployees(@RequestBody @Valid CreateEmployees request) {
+        // Create the employees and fetch the per-item results
+        List<BulkEmployeeResponseDto> results = employeeService.createEmployees(request.getEmployees());
+        long created = results.stream().filter(result -> result.getStatus() == HttpStatus.CREATED).count();
+
+        // Build and return the response with the per-item results
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(
+                        Response
+                                .builder()
+                                .status(HttpStatus.CREATED)
+                                .statusCode(HttpStatus.CREATED.value())
+                                .data(Map.of(
+                                        Constants.DATA, results,
+                                        Constants.CREATED, created,
+                                        Constants.REJECTED, results.size() - created))
+                                .message("Employees processed successfully")
+                                .build());
+    }
+
+    /**
+     * Endpoint to import employees from a CSV request body of any size.
+     * <p>
+     * The body is read incrementally, so it should be sent as raw {@code text/csv} content
+     * (e.g. {@code curl --data-binary @employees.csv -H "Content-Type: text/csv"}).
+     * </p>
+     * 
+     * @param csv The CSV request body: a header row, then name,email,phone followed by street,city,state,postalCode groups.
+     * @return A ResponseEntity containing the import summary.
+     * @throws IOException if reading the body or writing the rejected rows file fails.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<Response> importEmployees(InputStream csv) throws IOException {
+        // Stream the CSV body through the import pipeline
+        ImportSummaryResponseDto summary = employeeImportService.importEmployees(csv);
+
+        // Build and return the response with the import summary
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(
+                        Response
+                                .builder()
+                                .status(HttpStatus.OK)
+                                .statusCode(HttpStatus.OK.value())
+                                .data(Map.of(Constants.DATA, summary))
+                                .message("Employees imported successfully")
+                                .build());
+    }
+
     /**
      * Endpoint to retrieve an employee by their ID.
      * 
@@ -95,6 +178,58 @@ public class EmployeeController {
                                 .build());    
     }
 
+    /**
+     * Endpoint to list employees using keyset pagination on the employee ID.
+     * 
+     * @param afterId The last ID of the previous page; omit it for the first page.
+     * @param limit   The maximum number of employees to return.
+     * @return A ResponseEntity containing the page of employees and the cursor for the next page.
+     */
+    @GetMapping
+    public ResponseEntity<Response> listEmployees(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_PAGE_SIZE) int limit) {
+        // Fetch one page of employees after the given cursor
+        EmployeePageResponseDto page = employeeService.listEmployees(afterId, limit);
+
+        // Build and return the response with the page data
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(
+                        Response
+                                .builder()
+                                .status(HttpStatus.OK)
+                                .statusCode(HttpStatus.OK.value())
+                                .data(Map.of(Constants.DATA, page))
+                                .message("Employees found successfully")
+                                .build());
+    }
+
+    /**
+     * Endpoint to export all employees with their addresses.
+     * <p>
+     * The export is streamed straight to the response body while the database cursor is read,
+     * so it runs in constant memory regardless of the table size.
+     * </p>
+     * 
+     * @param format   The output format, either {@code ndjson} (one employee per line) or {@code csv} (one line per address).
+     * @param response The HTTP response the export is written to.
+     * @throws IOException if writing to the response fails.
+     */
+    @GetMapping("/export")
+    public void exportEmployees(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+            throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        // Stream the employees straight to the response body
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"employees." + exportFormat.getFileExtension() + "\"");
+        employeeExportService.exportEmployees(exportFormat, response.getOutputStream());
+    }
+
     /**
      * Endpoint to update an existing employee's details.
      * 
@@ -120,6 +255,32 @@ public class EmployeeController {
                                 .build());    
     }
 
+    /**
+     * Endpoint to partially update an employee with a JSON Merge Patch.
+     * Only the supplied fields are changed; {@code addresses}, when present, replaces the whole list.
+     * 
+     * @param id    The ID of the employee to update.
+     * @param patch The fields to change.
+     * @return A ResponseEntity containing the updated employee data.
+     */
+    @PatchMapping(value = "/{id}", consumes = {Constants.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Response> patchEmployee(@PathVariable Long id, @RequestBody @Valid PatchEmployee patch) {
+        // Apply the patch and fetch the updated details
+        EmployeeResponseDto updatedEmployee = employeeService.patchEmployee(id, patch);
+
+        // Build and return the response with updated employee data
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(
+                        Response
+                                .builder()
+                                .status(HttpStatus.OK)
+                                .statusCode(HttpStatus.OK.value())
+                                .data(Map.of(Constants.DATA, updatedEmployee))
+                                .message("Employee updated successfully")
+                                .build());
+    }
+
     /**
      * Endpoint to delete an employee by their ID.
      * 
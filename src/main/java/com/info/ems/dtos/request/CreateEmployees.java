@@ -0,0 +1,23 @@
+package com.info.ems.dtos.request;
+
+import java.util.List;
+
+import com.info.ems.constants.Constants;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateEmployees {
+    @NotEmpty(message = "employees is required")
+    @Size(max = Constants.BULK_CREATE_MAX_SIZE, message = "at most " + Constants.BULK_CREATE_MAX_SIZE + " employees per request")
+    private List<@Valid CreateEmployee> employees;
+}
@@ -0,0 +1,39 @@
+package com.info.ems.dtos.request;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JSON Merge Patch (RFC 7396) of an employee: absent fields are left unchanged.
+ * <p>
+ * Every employee field is required, so an explicit {@code null} (which would remove the field) is
+ * rejected. {@code addresses} replaces the whole address list when present; send an empty array to
+ * remove all addresses.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatchEmployee {
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Pattern(regexp = ".*\\S.*", message = "name must not be blank")
+    private String name;
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Pattern(regexp = ".*\\S.*", message = "email must not be blank")
+    private String email;
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Pattern(regexp = ".*\\S.*", message = "phone must not be blank")
+    private String phone;
+    @JsonSetter(nulls = Nulls.FAIL)
+    private List<@Valid CreateAddress> addresses;
+}
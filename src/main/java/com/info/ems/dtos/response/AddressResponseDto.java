@@ -0,0 +1,18 @@
+package com.info.ems.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AddressResponseDto {
+	private Long id;
+	private String street;
+	private String city;
+	private String state;
+	private String postalCode;
+}
@@ -0,0 +1,18 @@
+package com.info.ems.dtos.response;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditLogDailyCountResponseDto {
+	private LocalDate day;
+	private String operation;
+	private long count;
+}
@@ -0,0 +1,21 @@
+package com.info.ems.dtos.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One keyset page of audit logs, newest first. Pass {@code nextCursor} back as {@code cursor} to fetch the next page.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditLogPageResponseDto {
+	private List<AuditLogResponseDto> auditLogs;
+	private String nextCursor;
+	private boolean hasMore;
+}
@@ -0,0 +1,25 @@
+package com.info.ems.dtos.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.info.ems.kafka.events.EmployeeSnapshot;
+import com.info.ems.kafka.events.FieldChange;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditLogResponseDto {
+	private Long id;
+	private Long entityId;
+	private String operation;
+	private LocalDateTime timestamp;
+	private EmployeeSnapshot details;
+	private List<FieldChange> changes;
+}
@@ -0,0 +1,23 @@
+package com.info.ems.dtos.response;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-item result of a bulk employee creation, reported in the same order as the request.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkEmployeeResponseDto {
+	private int index;
+	private String email;
+	private HttpStatus status;
+	private String message;
+	private EmployeeResponseDto employee;
+}
@@ -0,0 +1,21 @@
+package com.info.ems.dtos.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One keyset page of employees. Pass {@code nextAfterId} back as {@code afterId} to fetch the next page.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeePageResponseDto {
+	private List<EmployeeResponseDto> employees;
+	private Long nextAfterId;
+	private boolean hasMore;
+}
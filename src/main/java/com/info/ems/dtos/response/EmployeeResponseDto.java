@@ -1,7 +1,6 @@
 package com.info.ems.dtos.response;
 
 import java.util.List;
-import com.info.ems.models.Address;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,5 +16,5 @@ public class EmployeeResponseDto {
 	private String name;
 	private String email;
 	private String phone;
-	private List<Address> addresses;
+	private List<AddressResponseDto> addresses;
 }
@@ -0,0 +1,24 @@
+package com.info.ems.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a CSV employee import.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportSummaryResponseDto {
+	private long rowsRead;
+	private long imported;
+	private long rejected;
+	private String rejectedRowsFile;
+	// Row of a malformed record that stopped the import, null when the whole input was read
+	private Long stoppedAtRow;
+	private long elapsedMillis;
+	private double rowsPerSecond;
+}
@@ -59,6 +59,26 @@ public class GlobalExceptionHandler {
 	                .build());
 	  }
 	  
+	  @ExceptionHandler(InvalidRequestParameterException.class)
+	  @ResponseStatus(HttpStatus.BAD_REQUEST)
+	  @ResponseBody
+	  public ResponseEntity<Response> handleInvalidRequestParameterException(
+			  InvalidRequestParameterException ex, HandlerMethod handlerMethod) {
+	    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+	        .body(
+	            Response.builder()
+	                .status(HttpStatus.BAD_REQUEST)
+	                .statusCode(HttpStatus.BAD_REQUEST.value())
+	                .message(ex.getMessage())
+	                .data(
+	                    Map.of(
+	                        Constants.CLASS,
+	                        handlerMethod.getBeanType().getSimpleName(),
+	                        Constants.METHOD,
+	                        handlerMethod.getMethod().getName()))
+	                .build());
+	  }
+	  
 //	  @ExceptionHandler(Exception.class)
 //	  @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
 //	  @ResponseBody
@@ -0,0 +1,11 @@
+package com.info.ems.exceptions;
+
+/**
+ * Thrown when a request parameter the framework cannot validate, such as a page cursor or an export format,
+ * is malformed. Its message is returned to the client, so it must never carry internal details.
+ */
+public class InvalidRequestParameterException extends RuntimeException {
+    public InvalidRequestParameterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,70 @@
+package com.info.ems.jfr;
+
+import java.util.List;
+
+import com.info.ems.kafka.events.AuditLogEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of one poll of audit log events written by the audit log consumer.
+ */
+@Name("com.info.ems.AuditLogBatch")
+@Label("Audit Log Batch")
+@Category({"Employee Management System", "Kafka"})
+@Description("The audit log events of one poll, written as audit logs")
+@StackTrace(false)
+public class AuditLogBatchEvent extends Event {
+
+    @Label("Records")
+    int records;
+
+    @Label("First Employee Id")
+    long firstEmployeeId;
+
+    @Label("Last Employee Id")
+    long lastEmployeeId;
+
+    @Label("Exception")
+    String exception;
+
+    /**
+     * Starts the event of a batch.
+     *
+     * @return the started event
+     */
+    public static AuditLogBatchEvent start() {
+        AuditLogBatchEvent event = new AuditLogBatchEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it, if enabled and above its threshold.
+     *
+     * @param events  the audit log events of the batch
+     * @param failure the exception writing the batch failed with, {@code null} if it succeeded
+     */
+    public void complete(List<AuditLogEvent> events, Throwable failure) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        records = events.size();
+        if (!events.isEmpty()) {
+            firstEmployeeId = employeeId(events.get(0));
+            lastEmployeeId = employeeId(events.get(events.size() - 1));
+        }
+        exception = failure == null ? null : failure.getClass().getName();
+        commit();
+    }
+
+    private static long employeeId(AuditLogEvent event) {
+        return event.getEntityId() == null ? 0 : event.getEntityId();
+    }
+}
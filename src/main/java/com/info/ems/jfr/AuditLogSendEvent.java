@@ -0,0 +1,91 @@
+package com.info.ems.jfr;
+
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+import com.info.ems.kafka.events.AuditLogEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of one audit log event sent to Kafka, from the hand-off to the producer until the
+ * broker acknowledgement or failure. Committed on the Kafka producer's I/O thread.
+ */
+@Name("com.info.ems.AuditLogSend")
+@Label("Audit Log Send")
+@Category({"Employee Management System", "Kafka"})
+@Description("An audit log event sent to Kafka, until it is acknowledged")
+@StackTrace(false)
+public class AuditLogSendEvent extends Event {
+
+    @Label("Send Operation")
+    @Description("Path the event is sent from: direct, replay or relay")
+    String sendOperation;
+
+    @Label("Audit Operation")
+    String auditOperation;
+
+    @Label("Employee Id")
+    long employeeId;
+
+    @Label("Partition")
+    int partition = -1;
+
+    @Label("Offset")
+    long offset = -1;
+
+    @Label("Serialized Size")
+    @DataAmount
+    int serializedSize;
+
+    @Label("Error")
+    String error;
+
+    // Not recorded, only read once the event is committed
+    private final transient AuditLogEvent message;
+
+    private AuditLogSendEvent(String sendOperation, AuditLogEvent message) {
+        this.sendOperation = sendOperation;
+        this.message = message;
+    }
+
+    /**
+     * Starts the event of a send.
+     *
+     * @param sendOperation the path the event is sent from
+     * @param message       the audit log event being sent
+     * @return the started event
+     */
+    public static AuditLogSendEvent start(String sendOperation, AuditLogEvent message) {
+        AuditLogSendEvent event = new AuditLogSendEvent(sendOperation, message);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it, if enabled and above its threshold.
+     *
+     * @param metadata  the metadata of the acknowledged record, may be {@code null} if the send failed
+     * @param exception the reason the send failed, or {@code null} if it succeeded
+     */
+    public void complete(RecordMetadata metadata, Exception exception) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        auditOperation = message.getOperation();
+        employeeId = message.getEntityId() == null ? 0 : message.getEntityId();
+        if (metadata != null) {
+            partition = metadata.partition();
+            offset = metadata.hasOffset() ? metadata.offset() : -1;
+            serializedSize = Math.max(metadata.serializedValueSize(), 0);
+        }
+        error = exception == null ? null : exception.getClass().getName() + ": " + exception.getMessage();
+        commit();
+    }
+}
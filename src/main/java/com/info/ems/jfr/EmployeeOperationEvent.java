@@ -0,0 +1,77 @@
+package com.info.ems.jfr;
+
+import java.util.List;
+import java.util.Map;
+
+import com.info.ems.dtos.response.BulkEmployeeResponseDto;
+import com.info.ems.dtos.response.EmployeePageResponseDto;
+import com.info.ems.dtos.response.EmployeeResponseDto;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of one {@code EmployeeService} call, including its transaction and cache lookup.
+ */
+@Name("com.info.ems.EmployeeOperation")
+@Label("Employee Operation")
+@Category({"Employee Management System", "Employee"})
+@Description("An EmployeeService call, including its transaction")
+@StackTrace(false)
+public class EmployeeOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Employee Id")
+    @Description("Id of the employee read or written, 0 for operations on many employees")
+    long employeeId;
+
+    @Label("Rows")
+    @Description("Number of employees read or written")
+    int rows;
+
+    @Label("Exception")
+    String exception;
+
+    /**
+     * Ends the event and commits it, if enabled and above its threshold.
+     *
+     * @param operation the name of the service method
+     * @param args      the arguments of the call
+     * @param result    the return value of the call, {@code null} if it failed
+     * @param failure   the exception the call failed with, {@code null} if it succeeded
+     */
+    void complete(String operation, Object[] args, Object result, Throwable failure) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.operation = operation;
+        if (args.length > 0 && args[0] instanceof Long id) {
+            this.employeeId = id;
+        } else if (result instanceof EmployeeResponseDto employee && employee.getId() != null) {
+            this.employeeId = employee.getId();
+        }
+        this.rows = rows(result);
+        this.exception = failure == null ? null : failure.getClass().getName();
+        commit();
+    }
+
+    private static int rows(Object result) {
+        if (result instanceof EmployeePageResponseDto page) {
+            return page.getEmployees().size();
+        }
+        if (result instanceof List<?> results) {
+            // Bulk create: only the created employees were written
+            return (int) results.stream()
+                    .filter(row -> row instanceof BulkEmployeeResponseDto bulk && bulk.getEmployee() != null)
+                    .count();
+        }
+        return result instanceof EmployeeResponseDto || result instanceof Map<?, ?> ? 1 : 0;
+    }
+}
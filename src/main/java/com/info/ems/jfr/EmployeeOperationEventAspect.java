@@ -0,0 +1,45 @@
+package com.info.ems.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records an {@link EmployeeOperationEvent} for every {@code EmployeeService} call while a Flight Recorder
+ * recording is running. Ordered first, so that the event covers the cache lookup and the transaction commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class EmployeeOperationEventAspect {
+
+    /**
+     * Wraps a service call in an {@link EmployeeOperationEvent}.
+     *
+     * @param joinPoint the service call
+     * @return the result of the call
+     * @throws Throwable the exception thrown by the call
+     */
+    @Around("execution(* com.info.ems.services.EmployeeService.*(..))")
+    public Object recordOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            event.complete(joinPoint.getSignature().getName(), joinPoint.getArgs(), result, failure);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.info.ems.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Actuator endpoint controlling a JDK Flight Recorder recording of this node, so that a live node can be
+ * profiled without a restart:
+ * <ul>
+ * <li>{@code GET /actuator/flightrecorder}: the state of the recording and the dumps written so far</li>
+ * <li>{@code POST /actuator/flightrecorder/start}: starts a recording, optionally with {@code settings}
+ * ({@code profile} or {@code default}) and a {@code duration} after which it stops by itself</li>
+ * <li>{@code POST /actuator/flightrecorder/dump}: writes the data recorded so far to a dump file</li>
+ * <li>{@code POST /actuator/flightrecorder/stop}: stops the recording and writes its final dump</li>
+ * <li>{@code GET /actuator/flightrecorder/{dump}}: downloads a dump file</li>
+ * </ul>
+ * Besides the JDK events the recording holds the {@link EmployeeOperationEvent}, {@link AuditLogSendEvent}
+ * and {@link AuditLogBatchEvent} of the application. The JDK events listing the environment variables and
+ * system properties of the process are left out, as they can carry credentials, and only the latest
+ * {@code ems.jfr.max-dumps} dumps are kept.
+ * <p>
+ * Recordings expose the internals of the node and cost disk space, so the endpoint is meant for
+ * administrators only and is disabled unless {@code management.endpoint.flightrecorder.enabled=true}.
+ * </p>
+ */
+@Component
+@WebEndpoint(id = "flightrecorder", enableByDefault = false)
+@Slf4j
+public class FlightRecorderEndpoint {
+
+    private static final String RECORDING_NAME = "ems";
+    private static final String DEFAULT_SETTINGS = "profile";
+    private static final DateTimeFormatter DUMP_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final Pattern DUMP_NAME = Pattern.compile(RECORDING_NAME + "-\\d{8}-\\d{6}-\\d{3}\\.jfr");
+
+    // JDK events disabled whatever the settings, as they record secrets passed through the environment
+    private static final List<String> SENSITIVE_EVENTS = List.of("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty");
+
+    // Directory the dumps are written to
+    private final Path dumpDirectory;
+
+    // Maximum size of the recording on disk, older data is discarded beyond it
+    private final DataSize maxSize;
+
+    // Maximum number of dumps kept in the dump directory, the oldest are deleted beyond it
+    private final int maxDumps;
+
+    private Recording recording;
+    private String settings;
+
+    /**
+     * Constructor for injecting the recording settings.
+     *
+     * @param dumpDirectory the directory the dumps are written to
+     * @param maxSize       the maximum size of the recording on disk
+     * @param maxDumps      the maximum number of dumps kept in the dump directory
+     */
+    @Autowired
+    public FlightRecorderEndpoint(@Value("${ems.jfr.dump-dir:${java.io.tmpdir}/ems-jfr}") Path dumpDirectory,
+                                  @Value("${ems.jfr.max-size:256MB}") DataSize maxSize,
+                                  @Value("${ems.jfr.max-dumps:10}") int maxDumps) {
+        this.dumpDirectory = dumpDirectory;
+        this.maxSize = maxSize;
+        this.maxDumps = maxDumps;
+    }
+
+    /**
+     * @return the state of the recording and the names of the dumps written so far
+     */
+    @ReadOperation
+    public synchronized Map<String, Object> status() throws IOException {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+        } else {
+            status.put("state", recording.getState());
+            status.put("settings", settings);
+            status.put("startTime", recording.getStartTime());
+            status.put("duration", recording.getDuration());
+            status.put("size", recording.getSize());
+        }
+        status.put("dumps", dumps());
+        return status;
+    }
+
+    /**
+     * Starts, dumps or stops the recording.
+     *
+     * @param action   {@code start}, {@code dump} or {@code stop}
+     * @param settings the JFR settings to start the recording with, {@code profile} by default
+     * @param duration the time after which a started recording stops by itself, unlimited by default
+     * @return the state of the recording, and the name of the dump written by {@code dump} and {@code stop}
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> control(@Selector String action,
+                                                                         @Nullable String settings,
+                                                                         @Nullable Duration duration) throws IOException {
+        return switch (action) {
+            case "start" -> start(settings == null ? DEFAULT_SETTINGS : settings, duration);
+            case "dump" -> dump(false);
+            case "stop" -> dump(true);
+            default -> error(WebEndpointResponse.STATUS_NOT_FOUND, "Unknown action " + action);
+        };
+    }
+
+    /**
+     * Downloads a dump.
+     *
+     * @param dump the name of the dump, as listed by {@link #status()}
+     * @return the dump file
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector String dump) {
+        // Only names of dumps written by this endpoint, never a path
+        Path file = dumpDirectory.resolve(dump);
+        if (!DUMP_NAME.matcher(dump).matches() || !Files.isRegularFile(file)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(file));
+    }
+
+    private WebEndpointResponse<Map<String, Object>> start(String settings, Duration duration) throws IOException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, "A recording is already running");
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException ex) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, "Unknown settings " + settings);
+        }
+        closeRecording();
+
+        Map<String, String> recordingSettings = new HashMap<>(configuration.getSettings());
+        for (String event : SENSITIVE_EVENTS) {
+            recordingSettings.put(event + "#enabled", "false");
+        }
+        Recording started = new Recording(recordingSettings);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxSize(maxSize.toBytes());
+        started.setDuration(duration);
+        started.start();
+        recording = started;
+        this.settings = settings;
+        log.info("Started flight recording with settings {} for {}", settings, duration == null ? "unlimited" : duration);
+        return new WebEndpointResponse<>(status());
+    }
+
+    private WebEndpointResponse<Map<String, Object>> dump(boolean stop) throws IOException {
+        if (recording == null) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, "No recording was started");
+        }
+        if (stop && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        Files.createDirectories(dumpDirectory);
+        Path dump = dumpDirectory.resolve(RECORDING_NAME + "-" + LocalDateTime.now().format(DUMP_TIMESTAMP) + ".jfr");
+        recording.dump(dump);
+        log.info("Dumped flight recording to {}", dump);
+        deleteOldDumps();
+        if (stop) {
+            closeRecording();
+        }
+        Map<String, Object> status = status();
+        status.put("dump", dump.getFileName().toString());
+        return new WebEndpointResponse<>(status);
+    }
+
+    private List<String> dumps() throws IOException {
+        if (!Files.isDirectory(dumpDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> DUMP_NAME.matcher(name).matches())
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void deleteOldDumps() throws IOException {
+        List<String> dumps = dumps();
+        // Dump names sort by their timestamp
+        for (String dump : dumps.subList(0, Math.max(0, dumps.size() - maxDumps))) {
+            Files.deleteIfExists(dumpDirectory.resolve(dump));
+            log.info("Deleted old flight recording dump {}", dump);
+        }
+    }
+
+    private static WebEndpointResponse<Map<String, Object>> error(int status, String message) {
+        return new WebEndpointResponse<>(Map.of("error", message), status);
+    }
+
+    /**
+     * Discards the recording, once its data has been dumped or is no longer wanted.
+     */
+    @PreDestroy
+    public synchronized void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            settings = null;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.info.ems.kafka;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+
+/**
+ * Identity of this application instance within the cluster.
+ * <p>
+ * Used to give every node its own consumer group on broadcast topics, so each node receives every
+ * message, and to let a node ignore the messages it published itself.
+ * </p>
+ */
+@Component
+@Getter
+public class NodeConfiguration {
+
+    /**
+     * Unique ID of this node, taken from `ems.node-id` or generated randomly at startup when unset.
+     */
+    private final String nodeId;
+
+    public NodeConfiguration(@Value("${ems.node-id:}") String nodeId) {
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    }
+}
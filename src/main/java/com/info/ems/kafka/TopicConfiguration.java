@@ -13,6 +13,7 @@ import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.config.TopicConfig;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
@@ -34,15 +35,19 @@ import lombok.extern.slf4j.Slf4j;
 public class TopicConfiguration {
 
     private final KafkaURLConfiguration kafkaURLConfiguration;
+    private final int auditLogPartitions;
 
     /**
      * Constructor to initialize Kafka URL configuration.
      * 
      * @param kafkaURLConfiguration The Kafka URL configuration bean used to get the Kafka broker URL.
+     * @param auditLogPartitions    The number of partitions of the audit log topic.
      */
     @Autowired
-    public TopicConfiguration(KafkaURLConfiguration kafkaURLConfiguration) {
+    public TopicConfiguration(KafkaURLConfiguration kafkaURLConfiguration,
+                              @Value("${ems.audit.topic.partitions:6}") int auditLogPartitions) {
         this.kafkaURLConfiguration = kafkaURLConfiguration;
+        this.auditLogPartitions = auditLogPartitions;
     }
 
     /**
@@ -62,7 +67,9 @@ public class TopicConfiguration {
     /**
      * Creates a new Kafka topic for system notifications and OTP if it doesn't already exist.
      * <p>
-     * The topic is configured with retention settings and a cleanup policy.
+     * The topic is configured with retention settings and a cleanup policy. Events are keyed by employee,
+     * so the partition count bounds the number of audit log consumers working in parallel. It only applies
+     * when the topic is created: adding partitions later would move employees to other partitions.
      * </p>
      * 
      * @return A new Kafka topic configuration.
@@ -83,12 +90,72 @@ public class TopicConfiguration {
         // Create a new topic with specified retention and cleanup policies
         return TopicBuilder
                 .name(Constants.SYSTEM_AUIDT_LOG_TOPIC)
+                .partitions(auditLogPartitions)
                 .config(TopicConfig.RETENTION_MS_CONFIG, Constants.SYSTEM_AUIDT_LOG_RETENTION)
                 .config(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_DELETE)
                 .config(TopicConfig.SEGMENT_MS_CONFIG, Constants.SYSTEM_AUIDT_LOG_SEGMENT_RETENTION)
                 .build();
     }
 
+    /**
+     * Creates the dead letter topic of the audit log consumer if it doesn't already exist.
+     * <p>
+     * Failed events are published to the partition they were read from, so the topic has as many
+     * partitions as the audit log topic, and keeps them long enough to be inspected and replayed.
+     * </p>
+     * 
+     * @return A new Kafka topic configuration.
+     * @throws ExecutionException if topic creation fails.
+     * @throws InterruptedException if thread is interrupted during execution.
+     */
+    @Bean
+    public NewTopic auditLogDeadLetterTopic() throws ExecutionException, InterruptedException {
+        log.trace("Inside auditLogDeadLetterTopic.");
+
+        // Check if the topic already exists to avoid re-creating it
+        if (doesTopicExist(Constants.SYSTEM_AUIDT_LOG_DLT_TOPIC)) {
+            log.trace("Topic {} already exists, skipping creation.", Constants.SYSTEM_AUIDT_LOG_DLT_TOPIC);
+            return null;
+        }
+
+        log.trace("Creating topic [{}] started.", Constants.SYSTEM_AUIDT_LOG_DLT_TOPIC);
+        return TopicBuilder
+                .name(Constants.SYSTEM_AUIDT_LOG_DLT_TOPIC)
+                .partitions(auditLogPartitions)
+                .config(TopicConfig.RETENTION_MS_CONFIG, Constants.SYSTEM_AUIDT_LOG_DLT_RETENTION)
+                .config(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_DELETE)
+                .build();
+    }
+
+    /**
+     * Creates the Kafka topic used to broadcast cache invalidations between nodes if it doesn't already exist.
+     * <p>
+     * Invalidations are only relevant to running nodes, so the topic keeps them for a short time only.
+     * </p>
+     * 
+     * @return A new Kafka topic configuration.
+     * @throws ExecutionException if topic creation fails.
+     * @throws InterruptedException if thread is interrupted during execution.
+     */
+    @Bean
+    public NewTopic cacheInvalidationTopic() throws ExecutionException, InterruptedException {
+        log.trace("Inside cacheInvalidationTopic.");
+
+        // Check if the topic already exists to avoid re-creating it
+        if (doesTopicExist(Constants.CACHE_INVALIDATION_TOPIC)) {
+            log.trace("Topic {} already exists, skipping creation.", Constants.CACHE_INVALIDATION_TOPIC);
+            return null;
+        }
+
+        log.trace("Creating topic [{}] started.", Constants.CACHE_INVALIDATION_TOPIC);
+        return TopicBuilder
+                .name(Constants.CACHE_INVALIDATION_TOPIC)
+                .config(TopicConfig.RETENTION_MS_CONFIG, Constants.CACHE_INVALIDATION_RETENTION)
+                .config(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_DELETE)
+                .config(TopicConfig.SEGMENT_MS_CONFIG, Constants.CACHE_INVALIDATION_RETENTION)
+                .build();
+    }
+
     /**
      * Checks if the specified Kafka topic already exists in the Kafka cluster.
      * 
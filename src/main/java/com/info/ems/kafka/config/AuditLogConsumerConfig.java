@@ -4,17 +4,36 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 
+import com.info.ems.constants.AuditLogSerialization;
+import com.info.ems.constants.Constants;
 import com.info.ems.kafka.KafkaURLConfiguration;
 import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.kafka.serialization.AuditLogEventDeserializer;
+import com.info.ems.kafka.serialization.AuditLogEventSerializer;
+import com.info.ems.kafka.serialization.AuditLogSchemaRegistry;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Configuration class for Kafka consumer settings related to the Audit Log Event.
@@ -28,18 +47,63 @@ public class AuditLogConsumerConfig {
     // Configuration for Kafka URLs
     private final KafkaURLConfiguration kafkaURLConfiguration;
 
+    // Schemas of the Avro encoded audit log events
+    private final AuditLogSchemaRegistry auditLogSchemaRegistry;
+
+    // Registry the consumer client metrics are published to
+    private final MeterRegistry meterRegistry;
+
+    // Maximum number of audit log events delivered to the listener per poll
+    private final int maxPollRecords;
+
+    // Number of listener threads, each owning a share of the topic partitions
+    private final int concurrency;
+
+    // Whether listeners run on virtual threads
+    private final boolean virtualThreads;
+
+    // Wire format of the audit log events published to the dead letter topic
+    private final AuditLogSerialization auditLogSerialization;
+
+    // Number of times a failing audit log event is retried before it goes to the dead letter topic
+    private final int retries;
+
     /**
      * Constructor for injecting Kafka URL configuration.
      * 
-     * @param kafkaURLConfiguration configuration for Kafka URLs
+     * @param kafkaURLConfiguration  configuration for Kafka URLs
+     * @param auditLogSchemaRegistry schemas of the Avro encoded audit log events
+     * @param meterRegistry          registry the consumer client metrics are published to
+     * @param maxPollRecords         maximum number of audit log events per batch
+     * @param concurrency            number of listener threads
+     * @param virtualThreads         whether listeners run on virtual threads
+     * @param auditLogSerialization  wire format of the events published to the dead letter topic
+     * @param retries                number of retries of a failing event before it is dead lettered
      */
     @Autowired
-    public AuditLogConsumerConfig(KafkaURLConfiguration kafkaURLConfiguration) {
+    public AuditLogConsumerConfig(KafkaURLConfiguration kafkaURLConfiguration, AuditLogSchemaRegistry auditLogSchemaRegistry,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${ems.audit.consumer.max-poll-records:500}") int maxPollRecords,
+                                  @Value("${ems.audit.consumer.concurrency:3}") int concurrency,
+                                  @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                  @Value("${ems.audit.serialization:json}") AuditLogSerialization auditLogSerialization,
+                                  @Value("${ems.audit.consumer.retries:6}") int retries) {
         this.kafkaURLConfiguration = kafkaURLConfiguration;
+        this.auditLogSchemaRegistry = auditLogSchemaRegistry;
+        this.meterRegistry = meterRegistry;
+        this.maxPollRecords = maxPollRecords;
+        this.concurrency = concurrency;
+        this.virtualThreads = virtualThreads;
+        this.auditLogSerialization = auditLogSerialization;
+        this.retries = retries;
     }
 
     /**
      * Creates a {@link ConsumerFactory} for Audit Log Events.
+     * <p>
+     * The client metrics of every consumer are published as {@code kafka.consumer.*} meters, among them
+     * the lag of each assigned partition ({@code kafka.consumer.fetch.manager.records.lag}).
+     * </p>
      * 
      * @return the consumer factory configured for Audit Log Events
      */
@@ -57,16 +121,30 @@ public class AuditLogConsumerConfig {
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaURLConfiguration.getKafkaURL());
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, AuditLogEventDeserializer.class);
         config.put(ConsumerConfig.GROUP_ID_CONFIG, GROUP_ID);
-        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "true");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
 
-        return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), deserializer);
+        // Accept both JSON and Avro encoded events
+        DefaultKafkaConsumerFactory<String, AuditLogEvent> consumerFactory = new DefaultKafkaConsumerFactory<>(config,
+                new StringDeserializer(), new AuditLogEventDeserializer(auditLogSchemaRegistry, deserializer));
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return consumerFactory;
     }
 
     /**
      * Creates a {@link ConcurrentKafkaListenerContainerFactory} for listening to Audit Log Events.
+     * <p>
+     * Listeners receive every record of a poll as one list, and the offsets of the poll are
+     * committed only after the listener has returned. Each of the {@code concurrency} consumers owns
+     * whole partitions, and events are keyed by employee, so the events of one employee are always
+     * handled in order by a single thread. Threads beyond the partition count stay idle.
+     * </p>
+     * <p>
+     * Failures are handled by {@link #auditLogErrorHandler()}.
+     * </p>
      * 
      * @return the container factory for Audit Log Event listeners
      */
@@ -77,10 +155,56 @@ public class AuditLogConsumerConfig {
 
         // Set the consumer factory
         containerFactory.setConsumerFactory(auditLogEventConsumerFactory());
-
-        // Optional: Uncomment the line below to set the concurrency level for the listener
-        // containerFactory.setConcurrency(10);
+        containerFactory.setBatchListener(true);
+        containerFactory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        containerFactory.setCommonErrorHandler(auditLogErrorHandler());
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("audit-log-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            containerFactory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
+        containerFactory.setConcurrency(concurrency);
 
         return containerFactory;
     }
+
+    /**
+     * Creates the error handler of the audit log listeners.
+     * <p>
+     * The listener reports the index of the event it could not store with a
+     * {@link org.springframework.kafka.listener.BatchListenerFailedException}: the offsets of the events
+     * before it are committed, and the poll is redelivered from that event on, with an exponential back off.
+     * Once the retries are exhausted the event is published to {@link Constants#SYSTEM_AUIDT_LOG_DLT_TOPIC},
+     * in the partition it was read from, and the events after it are processed, so that one bad event
+     * neither blocks its partition nor is silently skipped.
+     * </p>
+     *
+     * @return the error handler for Audit Log Event listeners
+     */
+    @Bean
+    public DefaultErrorHandler auditLogErrorHandler() {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(auditLogDeadLetterTemplate(),
+                (record, exception) -> new TopicPartition(Constants.SYSTEM_AUIDT_LOG_DLT_TOPIC, record.partition()));
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(retries);
+        backOff.setInitialInterval(1000);
+        backOff.setMultiplier(2);
+        backOff.setMaxInterval(30000);
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+
+    /**
+     * Creates the template publishing failed audit log events to the dead letter topic, in the configured
+     * wire format.
+     *
+     * @return the template for the dead letter topic
+     */
+    @Bean
+    public KafkaTemplate<String, AuditLogEvent> auditLogDeadLetterTemplate() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaURLConfiguration.getKafkaURL());
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(config, new StringSerializer(),
+                new AuditLogEventSerializer(auditLogSerialization, auditLogSchemaRegistry)));
+    }
 }
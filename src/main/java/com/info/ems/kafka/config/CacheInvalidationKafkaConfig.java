@@ -0,0 +1,121 @@
+package com.info.ems.kafka.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.info.ems.kafka.KafkaURLConfiguration;
+import com.info.ems.kafka.NodeConfiguration;
+import com.info.ems.kafka.events.CacheInvalidationEvent;
+
+/**
+ * Configuration class for the Kafka producer and consumer used to broadcast cache invalidations.
+ * <p>
+ * Every node consumes with its own group ID so that each invalidation reaches all nodes, and starts
+ * from the latest offset because invalidations published before the node started are irrelevant.
+ * </p>
+ */
+@Configuration
+public class CacheInvalidationKafkaConfig {
+
+    // Prefix of the per-node group ID for cache invalidation consumers
+    public static final String GROUP_ID_PREFIX = "GROUP_FOR_CACHE_INVALIDATION-";
+
+    // Configuration for Kafka URLs
+    private final KafkaURLConfiguration kafkaURLConfiguration;
+
+    // Identity of this node
+    private final NodeConfiguration nodeConfiguration;
+
+    // Whether listeners run on virtual threads
+    private final boolean virtualThreads;
+
+    /**
+     * Constructor for injecting Kafka URL and node configuration.
+     * 
+     * @param kafkaURLConfiguration configuration for Kafka URLs
+     * @param nodeConfiguration     identity of this node
+     * @param virtualThreads        whether listeners run on virtual threads
+     */
+    @Autowired
+    public CacheInvalidationKafkaConfig(KafkaURLConfiguration kafkaURLConfiguration, NodeConfiguration nodeConfiguration,
+                                        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.kafkaURLConfiguration = kafkaURLConfiguration;
+        this.nodeConfiguration = nodeConfiguration;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Bean definition for the Kafka Producer publishing cache invalidations.
+     * <p>
+     * Sends immediately and waits for the leader only, trading durability for latency:
+     * a lost invalidation is bounded by the cache TTL.
+     * </p>
+     * 
+     * @return a configured {@link KafkaProducer} instance
+     */
+    @Bean(name = "cacheInvalidationEvent")
+    public KafkaProducer<String, CacheInvalidationEvent> cacheInvalidationKafkaProducer() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaURLConfiguration.getKafkaURL());
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        config.put(ProducerConfig.ACKS_CONFIG, "1");
+        config.put(ProducerConfig.LINGER_MS_CONFIG, 0);
+
+        return new KafkaProducer<>(config, new StringSerializer(), new JsonSerializer<>());
+    }
+
+    /**
+     * Creates a {@link ConsumerFactory} for cache invalidations, using a group ID unique to this node.
+     * 
+     * @return the consumer factory configured for cache invalidations
+     */
+    @Bean
+    public ConsumerFactory<String, CacheInvalidationEvent> cacheInvalidationConsumerFactory() {
+        JsonDeserializer<CacheInvalidationEvent> deserializer =
+                new JsonDeserializer<>(CacheInvalidationEvent.class, false);
+        deserializer.addTrustedPackages("*");
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaURLConfiguration.getKafkaURL());
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, GROUP_ID_PREFIX + nodeConfiguration.getNodeId());
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "true");
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+
+        return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), deserializer);
+    }
+
+    /**
+     * Creates a {@link ConcurrentKafkaListenerContainerFactory} for listening to cache invalidations.
+     * 
+     * @return the container factory for cache invalidation listeners
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, CacheInvalidationEvent> cacheInvalidationConcurrentKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, CacheInvalidationEvent> containerFactory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        containerFactory.setConsumerFactory(cacheInvalidationConsumerFactory());
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("cache-invalidation-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            containerFactory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
+        return containerFactory;
+    }
+}
@@ -7,12 +7,17 @@ import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import com.info.ems.constants.AuditLogSerialization;
 import com.info.ems.kafka.KafkaURLConfiguration;
 import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.kafka.serialization.AuditLogEventSerializer;
+import com.info.ems.kafka.serialization.AuditLogSchemaRegistry;
+
+import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
 
 /**
  * Configuration class for Kafka Producer settings.
@@ -23,14 +28,31 @@ public class KafkaProducerConfig {
     // Configuration for Kafka URLs
     private final KafkaURLConfiguration kafkaURLConfiguration;
 
+    // Schemas of the Avro encoded audit log events
+    private final AuditLogSchemaRegistry auditLogSchemaRegistry;
+
+    // Wire format of audit log events
+    private final AuditLogSerialization auditLogSerialization;
+
+    // Compression codec applied to producer batches
+    private final String compressionType;
+
     /**
      * Constructor for injecting Kafka URL configuration.
      * 
-     * @param kafkaURLConfiguration configuration for Kafka URLs
+     * @param kafkaURLConfiguration  configuration for Kafka URLs
+     * @param auditLogSchemaRegistry schemas of the Avro encoded audit log events
+     * @param auditLogSerialization  wire format of audit log events
+     * @param compressionType        compression codec applied to producer batches
      */
     @Autowired
-    public KafkaProducerConfig(KafkaURLConfiguration kafkaURLConfiguration) {
+    public KafkaProducerConfig(KafkaURLConfiguration kafkaURLConfiguration, AuditLogSchemaRegistry auditLogSchemaRegistry,
+                               @Value("${ems.audit.serialization:json}") AuditLogSerialization auditLogSerialization,
+                               @Value("${ems.audit.producer.compression-type:lz4}") String compressionType) {
         this.kafkaURLConfiguration = kafkaURLConfiguration;
+        this.auditLogSchemaRegistry = auditLogSchemaRegistry;
+        this.auditLogSerialization = auditLogSerialization;
+        this.compressionType = compressionType;
     }
 
     /**
@@ -44,9 +66,33 @@ public class KafkaProducerConfig {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaURLConfiguration.getKafkaURL());
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, AuditLogEventSerializer.class);
+        // Compress whole batches; a short linger lets batches fill up under load
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        // Fail fast while the broker is unreachable so undeliverable events reach the spool sooner
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 5000);
+        config.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 30000);
+        // delivery.timeout.ms must cover linger.ms + request.timeout.ms
+        config.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 10000);
+        // Retries must not reorder the events of one employee within their partition
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
 
         // Return a new KafkaProducer with the specified serializers
-        return new KafkaProducer<>(config, new StringSerializer(), new JsonSerializer<>());
+        return new KafkaProducer<>(config, new StringSerializer(),
+                new AuditLogEventSerializer(auditLogSerialization, auditLogSchemaRegistry));
+    }
+
+    /**
+     * Publishes the client metrics of the audit log producer (send buffer usage, request latency, record
+     * errors and retries, ...) as {@code kafka.producer.*} meters.
+     *
+     * @param auditLogKafkaProducer the audit log producer
+     * @return the binder, bound to the meter registries by Spring Boot
+     */
+    @Bean
+    public KafkaClientMetrics auditLogKafkaProducerMetrics(KafkaProducer<String, AuditLogEvent> auditLogKafkaProducer) {
+        return new KafkaClientMetrics(auditLogKafkaProducer);
     }
 }
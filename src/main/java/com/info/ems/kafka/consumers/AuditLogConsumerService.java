@@ -1,14 +1,21 @@
 package com.info.ems.kafka.consumers;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
 import com.info.ems.constants.Constants;
+import com.info.ems.jfr.AuditLogBatchEvent;
 import com.info.ems.kafka.config.AuditLogConsumerConfig;
 import com.info.ems.kafka.events.AuditLogEvent;
 import com.info.ems.services.AuditLogService;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -22,20 +29,40 @@ public class AuditLogConsumerService {
     // Service for handling audit log persistence
     private final AuditLogService auditLogService;
 
+    private final DistributionSummary recordsPerPoll;
+    private final Timer processing;
+
     /**
      * Constructor for injecting dependencies into the service.
      * 
      * @param auditLogService the service responsible for creating audit logs
+     * @param meterRegistry   the registry the consumer metrics are published to
      */
     @Autowired
-    public AuditLogConsumerService(AuditLogService auditLogService) {
+    public AuditLogConsumerService(AuditLogService auditLogService, MeterRegistry meterRegistry) {
         this.auditLogService = auditLogService;
+        this.recordsPerPoll = DistributionSummary.builder("ems.audit.consumer.records")
+                .description("Audit log events delivered to the listener per poll")
+                .tag("operation", "create-audit-logs")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.processing = Timer.builder("ems.audit.consumer.processing")
+                .description("Time to write the audit log events of one poll")
+                .tag("operation", "create-audit-logs")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
-     * Kafka listener method for consuming audit log events.
+     * Kafka listener method for consuming audit log events, one poll at a time.
+     * <p>
+     * The whole batch is written in one transaction. If that fails, the events are written one by one,
+     * so that a single bad event does not fail the others; the first event that still fails is reported
+     * with its index, and the container's error handler retries the poll from that event on and finally
+     * sends it to the dead letter topic (see {@link AuditLogConsumerConfig#auditLogErrorHandler()}).
+     * </p>
      * 
-     * @param auditLogEvent the audit log event consumed from the Kafka topic
+     * @param auditLogEvents the audit log events of one poll of the Kafka topic
      */
     @KafkaListener(
         topics = Constants.SYSTEM_AUIDT_LOG_TOPIC, 
@@ -43,10 +70,36 @@ public class AuditLogConsumerService {
         containerFactory = "auditLogEventConcurrentKafkaListenerContainerFactory",
         autoStartup = "true"
     )
-    public void consumeForAuditLog(AuditLogEvent auditLogEvent) {
-        log.info("Consuming auditLogEvent: {}", auditLogEvent);
+    public void consumeForAuditLog(List<AuditLogEvent> auditLogEvents) {
+        log.info("Consuming {} auditLogEvents", auditLogEvents.size());
+
+        recordsPerPoll.record(auditLogEvents.size());
+        AuditLogBatchEvent event = AuditLogBatchEvent.start();
+        Throwable failure = null;
+        try {
+            // Delegate the audit log creation to the service layer
+            processing.record(() -> store(auditLogEvents));
+        } catch (RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            event.complete(auditLogEvents, failure);
+        }
+    }
 
-        // Delegate the audit log creation to the service layer
-        auditLogService.createAuditLog(auditLogEvent);
+    private void store(List<AuditLogEvent> auditLogEvents) {
+        try {
+            auditLogService.createAuditLogs(auditLogEvents);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to store {} auditLogEvents at once, storing them one by one: {}",
+                    auditLogEvents.size(), ex.getMessage());
+            for (int i = 0; i < auditLogEvents.size(); i++) {
+                try {
+                    auditLogService.createAuditLog(auditLogEvents.get(i));
+                } catch (RuntimeException recordEx) {
+                    throw new BatchListenerFailedException("Failed to store auditLogEvent", recordEx, i);
+                }
+            }
+        }
     }
 }
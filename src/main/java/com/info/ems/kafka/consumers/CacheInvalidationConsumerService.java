@@ -0,0 +1,72 @@
+package com.info.ems.kafka.consumers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.info.ems.cache.EmployeeCacheInvalidator;
+import com.info.ems.constants.Constants;
+import com.info.ems.kafka.NodeConfiguration;
+import com.info.ems.kafka.events.CacheInvalidationEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consumer service that applies cache invalidations published by other nodes to the local caches.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationConsumerService {
+
+    private final CacheManager cacheManager;
+    private final EmployeeCacheInvalidator employeeCacheInvalidator;
+    private final NodeConfiguration nodeConfiguration;
+
+    /**
+     * Constructor for injecting dependencies into the service.
+     * 
+     * @param cacheManager             the local cache manager
+     * @param employeeCacheInvalidator the invalidator guarding the employee cache
+     * @param nodeConfiguration        identity of this node
+     */
+    @Autowired
+    public CacheInvalidationConsumerService(CacheManager cacheManager, EmployeeCacheInvalidator employeeCacheInvalidator,
+                                            NodeConfiguration nodeConfiguration) {
+        this.cacheManager = cacheManager;
+        this.employeeCacheInvalidator = employeeCacheInvalidator;
+        this.nodeConfiguration = nodeConfiguration;
+    }
+
+    /**
+     * Kafka listener method for consuming cache invalidations. The group ID comes from the
+     * container factory so that it is unique to this node.
+     * 
+     * @param event the cache invalidation consumed from the Kafka topic
+     */
+    @KafkaListener(
+        topics = Constants.CACHE_INVALIDATION_TOPIC,
+        containerFactory = "cacheInvalidationConcurrentKafkaListenerContainerFactory",
+        autoStartup = "true"
+    )
+    public void consumeCacheInvalidation(CacheInvalidationEvent event) {
+        // The publishing node already evicted its own entry
+        if (nodeConfiguration.getNodeId().equals(event.getOriginNodeId())) {
+            return;
+        }
+        // Guarded, as three arguments allocate a varargs array even while trace is disabled
+        if (log.isTraceEnabled()) {
+            log.trace("Applying invalidation of {}[{}] from node {}", event.getCacheName(), event.getKey(), event.getOriginNodeId());
+        }
+        // Employee reads in flight on this node must not cache what they loaded before the remote write
+        if (Constants.EMPLOYEE_CACHE.equals(event.getCacheName())) {
+            employeeCacheInvalidator.evict(event.getKey());
+            return;
+        }
+        Cache cache = cacheManager.getCache(event.getCacheName());
+        if (cache != null) {
+            cache.evict(event.getKey());
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.info.ems.kafka.events;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.jackson.Jacksonized;
 
+/**
+ * Audit record of one change to an employee. CREATE and DELETE carry the full employee in {@code details};
+ * UPDATE carries only the changed fields in {@code changes}.
+ */
 @Data
 @Builder
 @AllArgsConstructor
@@ -20,6 +24,8 @@ public class AuditLogEvent {
 	  private String operation;
     @NotBlank(message = "timestamp is required")
     private LocalDateTime timestamp;
-    @NotNull(message = "details is required")
-    private Object details;
+    // Id of the audited employee
+    private Long entityId;
+    private EmployeeSnapshot details;
+    private List<FieldChange> changes;
 }
@@ -0,0 +1,18 @@
+package com.info.ems.kafka.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Jacksonized
+public class CacheInvalidationEvent {
+	private String cacheName;
+	private Long key;
+	private String originNodeId;
+}
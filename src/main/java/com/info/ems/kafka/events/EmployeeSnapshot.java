@@ -0,0 +1,40 @@
+package com.info.ems.kafka.events;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * State of an employee as carried by an {@link AuditLogEvent}, decoupled from the JPA entity.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Jacksonized
+public class EmployeeSnapshot {
+    private Long id;
+    private String name;
+    private String email;
+    private String phone;
+    private LocalDate hireDate;
+    private List<AddressSnapshot> addresses;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Jacksonized
+    public static class AddressSnapshot {
+        private Long id;
+        private String street;
+        private String city;
+        private String state;
+        private String postalCode;
+    }
+}
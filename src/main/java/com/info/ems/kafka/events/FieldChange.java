@@ -0,0 +1,22 @@
+package com.info.ems.kafka.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * One changed field of an audited entity. Address fields are addressed by the address id,
+ * e.g. {@code addresses[7].city}; a null old (new) value means the address was added (removed).
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Jacksonized
+public class FieldChange {
+    private String field;
+    private String oldValue;
+    private String newValue;
+}
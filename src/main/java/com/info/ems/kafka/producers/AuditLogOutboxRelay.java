@@ -0,0 +1,259 @@
+package com.info.ems.kafka.producers;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.info.ems.kafka.NodeConfiguration;
+import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.models.AuditLogOutbox;
+import com.info.ems.models.AuditLogOutboxLease;
+import com.info.ems.repositories.AuditLogOutboxLeaseRepository;
+import com.info.ems.repositories.AuditLogOutboxRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background relay draining the audit log outbox table to Kafka.
+ * <p>
+ * Each batch is handled in three steps so that no transaction, row lock or connection is held while
+ * waiting on the broker: the oldest entries are copied in a short transaction, sent outside any
+ * transaction, and the acknowledged entries are deleted in a second short transaction. Entries are only
+ * removed once Kafka has them, so a crash at any point leads to a resend rather than a loss (at-least-once
+ * delivery).
+ * </p>
+ * <p>
+ * Entries are sent in id order. Outbox ids are assigned by the database when the entry is inserted, after the
+ * change it describes has been flushed, so the events of one employee get increasing ids in the order their
+ * transactions locked the employee row, whichever node ran them.
+ * Entries are removed in order, up to the first one that was not acknowledged, and the batch stops there.
+ * An event may therefore reach Kafka more than once, but every event is followed by all later events of
+ * the same employee, so consumers applying them in order end with the latest state.
+ * </p>
+ * <p>
+ * The relay runs on one node at a time, the holder of a lease row in {@code audit_log_outbox_lease}. The lease
+ * is taken or extended in the transaction reading each batch and extended again in the transaction deleting
+ * it, and outlives a batch ({@code ems.audit.outbox.lease-duration-ms}, longer than the send timeout and both
+ * transaction timeouts), so another node only takes over once the holder has stopped relaying. Expiry is
+ * compared with the clock of the node taking over, so node clocks are assumed to agree well within the
+ * margin between the lease duration and the time a batch takes.
+ * </p>
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "ems.audit.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogOutboxRelay {
+
+    private static final String LEASE_NAME = "ems_audit_log_outbox_relay";
+
+    private final AuditLogOutboxRepository auditLogOutboxRepository;
+    private final AuditLogOutboxLeaseRepository auditLogOutboxLeaseRepository;
+    private final KafkaProducer<String, AuditLogEvent> auditLogKafkaProducer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate deleteTransaction;
+    private final String nodeId;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final long leaseDurationMs;
+    private final AuditLogSendRecorder sendRecorder;
+
+    // Whether the lease row is known to exist
+    private boolean leaseCreated;
+
+    /**
+     * Constructor for injecting dependencies.
+     *
+     * @param auditLogOutboxRepository      the repository for outbox entries
+     * @param auditLogOutboxLeaseRepository the repository for the lease electing the relaying node
+     * @param auditLogKafkaProducer         the KafkaProducer instance used for sending messages
+     * @param objectMapper                  the mapper used to read the outbox payloads
+     * @param transactionManager            the transaction manager the reads and deletes run in
+     * @param nodeConfiguration             the identity of this node, the owner of the lease
+     * @param meterRegistry                 the registry the send metrics are published to
+     * @param batchSize                     the maximum number of entries relayed per batch
+     * @param sendTimeoutMs                 how long a batch waits for the broker acknowledgements
+     * @param leaseDurationMs               how long the lease lasts after each renewal
+     * @param transactionTimeoutSeconds     the timeout of the read and delete transactions
+     */
+    @Autowired
+    public AuditLogOutboxRelay(AuditLogOutboxRepository auditLogOutboxRepository,
+                               AuditLogOutboxLeaseRepository auditLogOutboxLeaseRepository,
+                               KafkaProducer<String, AuditLogEvent> auditLogKafkaProducer, ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager, NodeConfiguration nodeConfiguration,
+                               MeterRegistry meterRegistry,
+                               @Value("${ems.audit.outbox.batch-size:500}") int batchSize,
+                               @Value("${ems.audit.outbox.send-timeout-ms:30000}") long sendTimeoutMs,
+                               @Value("${ems.audit.outbox.lease-duration-ms:120000}") long leaseDurationMs,
+                               @Value("${ems.audit.outbox.transaction-timeout-seconds:10}") int transactionTimeoutSeconds) {
+        this.auditLogOutboxRepository = auditLogOutboxRepository;
+        this.auditLogOutboxLeaseRepository = auditLogOutboxLeaseRepository;
+        this.auditLogKafkaProducer = auditLogKafkaProducer;
+        this.objectMapper = objectMapper;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setTimeout(transactionTimeoutSeconds);
+        this.deleteTransaction = new TransactionTemplate(transactionManager);
+        this.deleteTransaction.setTimeout(transactionTimeoutSeconds);
+        this.nodeId = nodeConfiguration.getNodeId();
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.leaseDurationMs = leaseDurationMs;
+        this.sendRecorder = new AuditLogSendRecorder(meterRegistry, "relay");
+    }
+
+    /**
+     * Relays batches until the outbox is empty or a batch could not be fully delivered, unless another
+     * node holds the lease.
+     */
+    @Scheduled(fixedDelayString = "${ems.audit.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        createLease();
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    /**
+     * Inserts the lease row the first time the relay runs, unless it exists already.
+     */
+    private void createLease() {
+        if (leaseCreated) {
+            return;
+        }
+        try {
+            readTransaction.executeWithoutResult(status -> {
+                if (!auditLogOutboxLeaseRepository.existsById(LEASE_NAME)) {
+                    // Expired from the start, so whichever node runs first takes it
+                    auditLogOutboxLeaseRepository.saveAndFlush(AuditLogOutboxLease.builder()
+                            .name(LEASE_NAME)
+                            .owner(nodeId)
+                            .expiresAt(LocalDateTime.now())
+                            .build());
+                }
+            });
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Audit log outbox lease created by another node");
+        }
+        leaseCreated = true;
+    }
+
+    /**
+     * @return the number of entries removed from the outbox, equal to the batch size only if the
+     *         batch was full and entirely delivered and the lease is still held
+     */
+    private int relayBatch() {
+        List<AuditLogOutbox> entries = readTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (auditLogOutboxLeaseRepository.acquire(LEASE_NAME, nodeId, now, now.plus(leaseDurationMs, ChronoUnit.MILLIS)) == 0) {
+                return null;
+            }
+            return auditLogOutboxRepository.findOldest(Limit.of(batchSize));
+        });
+        if (entries == null) {
+            log.debug("Audit log outbox is relayed by another node");
+            return 0;
+        }
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        // Send the first entry on its own: while the broker is unreachable every send blocks for up to
+        // max.block.ms, so the rest of the batch is only sent once the first one is acknowledged
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        List<Future<RecordMetadata>> futures = new ArrayList<>(entries.size());
+        futures.add(send(entries.get(0)));
+        boolean connected = isDelivered(futures.get(0), deadline);
+        if (connected) {
+            for (int i = 1; i < entries.size(); i++) {
+                futures.add(send(entries.get(i)));
+            }
+        }
+
+        // Only the acknowledged prefix is removed, so a failed entry is resent ahead of the entries after it
+        int acknowledged = connected ? 1 : 0;
+        while (acknowledged > 0 && acknowledged < futures.size() && isDelivered(futures.get(acknowledged), deadline)) {
+            acknowledged++;
+        }
+        List<Long> delivered = entries.subList(0, acknowledged).stream().map(AuditLogOutbox::getId).toList();
+        // Acknowledged entries are deleted even if the lease was lost meanwhile: Kafka has them either way
+        Boolean leased = deleteTransaction.execute(status -> {
+            if (!delivered.isEmpty()) {
+                auditLogOutboxRepository.deleteAllByIdInBatch(delivered);
+            }
+            LocalDateTime until = LocalDateTime.now().plus(leaseDurationMs, ChronoUnit.MILLIS);
+            return auditLogOutboxLeaseRepository.renew(LEASE_NAME, nodeId, until) == 1;
+        });
+        log.debug("Relayed {} of {} audit log outbox entries", delivered.size(), entries.size());
+        if (!Boolean.TRUE.equals(leased)) {
+            log.warn("Audit log outbox lease taken over by another node while relaying, stopping");
+            return 0;
+        }
+        return delivered.size();
+    }
+
+    /**
+     * @return the pending send, or {@code null} for an unreadable entry that should just be removed
+     */
+    private Future<RecordMetadata> send(AuditLogOutbox entry) {
+        AuditLogEvent event;
+        try {
+            event = objectMapper.readValue(entry.getPayload(), AuditLogEvent.class);
+        } catch (IOException ex) {
+            log.error("Discarding unreadable audit log outbox entry {}", entry.getId(), ex);
+            return null;
+        }
+        Callback sent = sendRecorder.start(event);
+        try {
+            return auditLogKafkaProducer.send(AuditLogProducerService.toRecord(event), sent);
+        } catch (RuntimeException ex) {
+            sent.onCompletion(null, ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * Waits for an acknowledgement until the deadline of the batch; an entry not acknowledged in time stays
+     * in the outbox and is sent again by a later run.
+     */
+    private boolean isDelivered(Future<RecordMetadata> future, long deadline) {
+        if (future == null) {
+            return true;
+        }
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException ex) {
+            log.warn("Failed to relay audit log outbox entry: {}", ex.getCause().getMessage());
+            return false;
+        } catch (TimeoutException ex) {
+            log.warn("Audit log outbox entry not acknowledged within {} ms", sendTimeoutMs);
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,60 +1,338 @@
 package com.info.ems.kafka.producers;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.info.ems.constants.Constants;
 import com.info.ems.kafka.events.AuditLogEvent;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service responsible for producing audit log events and sending them to a Kafka topic.
- * This service handles serialization and communication with the Kafka broker.
+ * <p>
+ * Sending never blocks the caller: events are put on a bounded in-memory queue drained by a single
+ * sender thread, and the outcome of every send is recorded through a callback. Events that cannot be
+ * delivered (queue full, broker unavailable, send failed) are written to the {@link AuditLogSpool}
+ * and replayed periodically; only when the spool is full as well is an event dropped.
+ * </p>
+ * <p>
+ * While the spool holds events, new events are appended behind them instead of being sent, so that they
+ * do not overtake older events of the same employee. Events already handed to the producer when a send
+ * fails may still overtake the failed one; per-employee ordering is only guaranteed with the outbox
+ * ({@code ems.audit.outbox.enabled=true}), see {@link AuditLogOutboxRelay}.
+ * </p>
  */
 @Service
 @Slf4j
 public class AuditLogProducerService {
 
+    // Maximum number of spooled events replayed per run
+    private static final int REPLAY_BATCH_SIZE = 500;
+
     // Kafka producer instance for sending audit log events
     private final KafkaProducer<String, AuditLogEvent> auditLogKafkaProducer;
 
+    // Disk spool for events that could not be delivered
+    private final AuditLogSpool auditLogSpool;
+
+    // Mapper used to (de)serialize spooled events
+    private final ObjectMapper objectMapper;
+
+    private final BlockingQueue<AuditLogEvent> queue;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter delivered;
+    private final Counter spooled;
+    private final Counter dropped;
+    private final AuditLogSendRecorder sendRecorder;
+    private final AuditLogSendRecorder replayRecorder;
+
+    // Maximum time a replay run waits for Kafka to acknowledge its events
+    private final long replayTimeoutMs;
+    private volatile boolean running = true;
+    private Thread sender;
+
     /**
      * Constructor for injecting dependencies into the service.
-     * 
+     *
      * @param auditLogKafkaProducer the KafkaProducer instance used for sending messages
+     * @param auditLogSpool         the spool for events that could not be delivered
+     * @param objectMapper          the mapper used to serialize spooled events
+     * @param meterRegistry         the registry the delivery metrics are published to
+     * @param queueCapacity         the number of events buffered in memory before spilling to the spool
+     * @param replayTimeoutMs       the maximum time a replay run waits for Kafka to acknowledge its events
      */
     @Autowired
-    public AuditLogProducerService(KafkaProducer<String, AuditLogEvent> auditLogKafkaProducer) {
+    public AuditLogProducerService(KafkaProducer<String, AuditLogEvent> auditLogKafkaProducer,
+                                   AuditLogSpool auditLogSpool, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                   @Value("${ems.audit.producer.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${ems.audit.spool.replay-timeout-ms:30000}") long replayTimeoutMs) {
         this.auditLogKafkaProducer = auditLogKafkaProducer;
+        this.auditLogSpool = auditLogSpool;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("ems.audit.producer.queued", queue, BlockingQueue::size)
+                .description("Audit log events waiting to be handed to the Kafka producer")
+                .register(meterRegistry);
+        Gauge.builder("ems.audit.producer.inflight", inFlight, AtomicInteger::get)
+                .description("Audit log events sent but not yet acknowledged by Kafka")
+                .register(meterRegistry);
+        Gauge.builder("ems.audit.spool.events", auditLogSpool, AuditLogSpool::size)
+                .description("Audit log events waiting in the disk spool")
+                .register(meterRegistry);
+        this.delivered = Counter.builder("ems.audit.producer.delivered")
+                .description("Audit log events acknowledged by Kafka")
+                .register(meterRegistry);
+        this.spooled = Counter.builder("ems.audit.producer.spooled")
+                .description("Audit log events written to the disk spool")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("ems.audit.producer.dropped")
+                .description("Audit log events lost because the disk spool was full")
+                .register(meterRegistry);
+        this.sendRecorder = new AuditLogSendRecorder(meterRegistry, "direct");
+        this.replayRecorder = new AuditLogSendRecorder(meterRegistry, "replay");
+        this.replayTimeoutMs = replayTimeoutMs;
+    }
+
+    /**
+     * Starts the sender thread.
+     */
+    @PostConstruct
+    public void start() {
+        sender = Thread.ofPlatform().name("audit-log-sender").daemon().start(this::drainQueue);
     }
 
     /**
-     * Sends an audit log event to a Kafka topic.
-     * 
+     * Sends an audit log event to a Kafka topic without blocking.
+     *
      * @param message the audit log event to be sent
      */
     public void sendAuditLogEventToKafka(AuditLogEvent message) {
         log.trace("Inside sendAuditLogEventToKafka method");
-        log.trace("AuditLogRequest : {}", message);
+        log.trace("AuditLogEvent {} of employee {}", message.getOperation(), message.getEntityId());
 
-        // Create a Kafka producer record with the topic name and the audit log event
-        ProducerRecord<String, AuditLogEvent> producerRecord =
-                new ProducerRecord<>(Constants.SYSTEM_AUIDT_LOG_TOPIC, message);
+        enqueue(message);
+    }
 
-        // Asynchronously send the message and get a Future to track the operation
-        Future<RecordMetadata> metadataFuture = auditLogKafkaProducer.send(producerRecord);
+    /**
+     * Sends a batch of audit log events to a Kafka topic without blocking.
+     * <p>
+     * All records are handed to the producer back to back so they share producer batches,
+     * instead of one send per request.
+     * </p>
+     *
+     * @param messages the audit log events to be sent
+     */
+    public void sendAuditLogEventsToKafka(List<AuditLogEvent> messages) {
+        log.trace("Inside sendAuditLogEventsToKafka method, size: {}", messages.size());
 
-        // Check the status of the future to log success or cancellation
-        if (metadataFuture.isCancelled()) {
-            log.info("AuditLogEvent cancelled to Kafka.");
-        } else {
-            log.info("Sending AuditLogEvent to Kafka");
+        for (AuditLogEvent message : messages) {
+            enqueue(message);
+        }
+    }
+
+    /**
+     * Builds the record of an audit log event, keyed by the id of the audited employee so that all
+     * events of one employee land on the same partition and are consumed in order.
+     *
+     * @param message the audit log event
+     * @return the record to send to the audit log topic
+     */
+    static ProducerRecord<String, AuditLogEvent> toRecord(AuditLogEvent message) {
+        String key = message.getEntityId() == null ? null : String.valueOf(message.getEntityId());
+        return new ProducerRecord<>(Constants.SYSTEM_AUIDT_LOG_TOPIC, key, message);
+    }
+
+    private void enqueue(AuditLogEvent message) {
+        if (!running || !queue.offer(message)) {
+            spool(message);
+        }
+    }
+
+    private void drainQueue() {
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLogEvent message = queue.poll(1, TimeUnit.SECONDS);
+                if (message == null) {
+                    continue;
+                }
+                // Queue up behind older events waiting in the spool rather than overtaking them
+                if (auditLogSpool.size() > 0) {
+                    spool(message);
+                } else {
+                    send(message);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Hands an event to the Kafka producer; the callback records the outcome and spools failures.
+     * May block for up to {@code max.block.ms} while the broker is unreachable, which only stalls
+     * the sender thread.
+     */
+    private void send(AuditLogEvent message) {
+        inFlight.incrementAndGet();
+        Callback sent = sendRecorder.start(message);
+        try {
+            auditLogKafkaProducer.send(
+                    toRecord(message),
+                    (metadata, exception) -> {
+                        sent.onCompletion(metadata, exception);
+                        inFlight.decrementAndGet();
+                        if (exception == null) {
+                            delivered.increment();
+                        } else {
+                            log.warn("Failed to deliver AuditLogEvent, spooling it: {}", exception.getMessage());
+                            spool(message);
+                        }
+                    });
+        } catch (RuntimeException ex) {
+            inFlight.decrementAndGet();
+            sent.onCompletion(null, ex);
+            log.warn("Failed to send AuditLogEvent, spooling it: {}", ex.getMessage());
+            spool(message);
+        }
+    }
+
+    private void spool(AuditLogEvent message) {
+        try {
+            if (auditLogSpool.append(objectMapper.writeValueAsBytes(message))) {
+                spooled.increment();
+                return;
+            }
+        } catch (IOException ex) {
+            log.error("Unable to serialize AuditLogEvent {} of employee {}", message.getOperation(), message.getEntityId(), ex);
+        }
+        dropped.increment();
+        log.error("Audit log spool full, dropping AuditLogEvent {} of employee {}", message.getOperation(), message.getEntityId());
+    }
+
+    /**
+     * Replays spooled events in order, removing them from the spool once Kafka has acknowledged them.
+     * Stops at the first failure so that the remaining events are retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${ems.audit.spool.replay-interval-ms:10000}")
+    public void replaySpool() {
+        List<byte[]> records;
+        while (!(records = auditLogSpool.peek(REPLAY_BATCH_SIZE)).isEmpty()) {
+            // Send the first record on its own: while the broker is unreachable every send blocks for up to
+            // max.block.ms, so the rest of the batch is only sent once the first one is acknowledged
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(replayTimeoutMs);
+            List<Future<RecordMetadata>> futures = new ArrayList<>(records.size());
+            futures.add(replay(records.get(0)));
+            boolean connected = isDelivered(futures.get(0), deadline);
+            if (connected) {
+                for (int i = 1; i < records.size(); i++) {
+                    futures.add(replay(records.get(i)));
+                }
+            }
+            int acknowledged = connected ? 1 : 0;
+            while (acknowledged > 0 && acknowledged < futures.size() && isDelivered(futures.get(acknowledged), deadline)) {
+                acknowledged++;
+            }
+            auditLogSpool.acknowledge(records.subList(0, acknowledged));
+            log.info("Replayed {} spooled AuditLogEvents, {} left", acknowledged, auditLogSpool.size());
+            if (acknowledged < records.size()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the pending send, or {@code null} for an unreadable record that should just be discarded
+     */
+    private Future<RecordMetadata> replay(byte[] payload) {
+        AuditLogEvent message;
+        try {
+            message = objectMapper.readValue(payload, AuditLogEvent.class);
+        } catch (IOException ex) {
+            log.error("Discarding unreadable spooled AuditLogEvent", ex);
+            dropped.increment();
+            return null;
+        }
+        inFlight.incrementAndGet();
+        Callback sent = replayRecorder.start(message);
+        try {
+            return auditLogKafkaProducer.send(
+                    toRecord(message),
+                    (metadata, exception) -> {
+                        sent.onCompletion(metadata, exception);
+                        inFlight.decrementAndGet();
+                        if (exception == null) {
+                            delivered.increment();
+                        }
+                    });
+        } catch (RuntimeException ex) {
+            inFlight.decrementAndGet();
+            sent.onCompletion(null, ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * Waits for an acknowledgement until the deadline of the replay batch; an event not acknowledged in time
+     * stays in the spool and is replayed again by a later run.
+     */
+    private boolean isDelivered(Future<RecordMetadata> future, long deadline) {
+        if (future == null) {
+            return true;
+        }
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException ex) {
+            log.debug("Spooled AuditLogEvent still undeliverable: {}", ex.getCause().getMessage());
+            return false;
+        } catch (TimeoutException ex) {
+            log.debug("Spooled AuditLogEvent not acknowledged within {} ms", replayTimeoutMs);
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Stops the sender thread once the queue is drained; events still queued after the timeout
+     * are moved to the spool.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        sender.join(TimeUnit.SECONDS.toMillis(10));
+        AuditLogEvent message;
+        while ((message = queue.poll()) != null) {
+            spool(message);
         }
+        auditLogKafkaProducer.flush();
     }
 }
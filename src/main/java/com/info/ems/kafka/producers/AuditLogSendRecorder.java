@@ -0,0 +1,70 @@
+package com.info.ems.kafka.producers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.Callback;
+
+import com.info.ems.jfr.AuditLogSendEvent;
+import com.info.ems.kafka.events.AuditLogEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records audit log sends from the hand-off to the Kafka producer until the broker acknowledgement (or
+ * failure): timed as {@code ems.audit.producer.send} tagged by operation and outcome, failed sends counted
+ * as {@code ems.audit.producer.failures}, and each send as an {@link AuditLogSendEvent} while a Flight
+ * Recorder recording is running.
+ */
+final class AuditLogSendRecorder {
+
+    private final String operation;
+    private final Timer succeeded;
+    private final Timer failed;
+    private final Counter failures;
+
+    /**
+     * @param meterRegistry the registry the send metrics are published to
+     * @param operation     the path the events are sent from ({@code direct}, {@code replay} or {@code relay})
+     */
+    AuditLogSendRecorder(MeterRegistry meterRegistry, String operation) {
+        this.operation = operation;
+        this.succeeded = timer(meterRegistry, operation, "success");
+        this.failed = timer(meterRegistry, operation, "failure");
+        this.failures = Counter.builder("ems.audit.producer.failures")
+                .description("Audit log events Kafka failed to acknowledge")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Timer.builder("ems.audit.producer.send")
+                .description("Time from handing an audit log event to the Kafka producer until it is acknowledged")
+                .tags("operation", operation, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts recording the send of an audit log event.
+     *
+     * @param message the audit log event about to be sent
+     * @return the callback recording the outcome, to be completed from the send callback, or directly
+     *         if {@code KafkaProducer.send} throws
+     */
+    Callback start(AuditLogEvent message) {
+        AuditLogSendEvent event = AuditLogSendEvent.start(operation, message);
+        long start = System.nanoTime();
+        return (metadata, exception) -> {
+            long duration = System.nanoTime() - start;
+            if (exception == null) {
+                succeeded.record(duration, TimeUnit.NANOSECONDS);
+            } else {
+                failed.record(duration, TimeUnit.NANOSECONDS);
+                failures.increment();
+            }
+            event.complete(metadata, exception);
+        };
+    }
+}
@@ -0,0 +1,179 @@
+package com.info.ems.kafka.producers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded, memory-mapped append log holding audit log events that could not be delivered to Kafka.
+ * <p>
+ * The file starts with a header of three longs (read position, write position, record count) followed
+ * by length-prefixed records. Records are read from the read position and acknowledged once delivered;
+ * acknowledged space is reclaimed by compacting when an append no longer fits. The header lives in the
+ * mapped file too, so undelivered events survive a restart.
+ * </p>
+ */
+@Component
+@Slf4j
+public class AuditLogSpool {
+
+    private static final int HEADER_SIZE = 3 * Long.BYTES;
+    private static final int READ_POSITION_OFFSET = 0;
+    private static final int WRITE_POSITION_OFFSET = Long.BYTES;
+    private static final int COUNT_OFFSET = 2 * Long.BYTES;
+
+    private final Path path;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+    private long readPosition;
+    private long writePosition;
+    private long count;
+
+    /**
+     * Constructor mapping the spool file, creating it when missing.
+     *
+     * @param path          the location of the spool file
+     * @param capacityBytes the maximum size of the spool file, header included
+     */
+    @Autowired
+    public AuditLogSpool(@Value("${ems.audit.spool.path:${java.io.tmpdir}/ems-audit-spool.log}") Path path,
+                         @Value("${ems.audit.spool.capacity-bytes:67108864}") int capacityBytes) {
+        this.path = path;
+        this.capacity = capacityBytes;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityBytes);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to map audit log spool " + path, ex);
+        }
+        readHeader();
+    }
+
+    private void readHeader() {
+        readPosition = buffer.getLong(READ_POSITION_OFFSET);
+        writePosition = buffer.getLong(WRITE_POSITION_OFFSET);
+        count = buffer.getLong(COUNT_OFFSET);
+        if (readPosition < HEADER_SIZE || writePosition < readPosition || writePosition > capacity || count < 0) {
+            // New file, or one written with another capacity
+            if (writePosition != 0) {
+                log.warn("Discarding unreadable audit log spool {}", path);
+            }
+            readPosition = HEADER_SIZE;
+            writePosition = HEADER_SIZE;
+            count = 0;
+            writeHeader();
+        } else if (count > 0) {
+            log.info("Audit log spool {} holds {} undelivered events", path, count);
+        }
+    }
+
+    private void writeHeader() {
+        buffer.putLong(READ_POSITION_OFFSET, readPosition);
+        buffer.putLong(WRITE_POSITION_OFFSET, writePosition);
+        buffer.putLong(COUNT_OFFSET, count);
+    }
+
+    /**
+     * Appends a record to the spool.
+     *
+     * @param payload the serialized event
+     * @return {@code false} when the spool is full and the record was not written
+     */
+    public synchronized boolean append(byte[] payload) {
+        int needed = Integer.BYTES + payload.length;
+        if (writePosition + needed > capacity) {
+            compact();
+            if (writePosition + needed > capacity) {
+                return false;
+            }
+        }
+        buffer.putInt((int) writePosition, payload.length);
+        buffer.put((int) writePosition + Integer.BYTES, payload);
+        writePosition += needed;
+        count++;
+        writeHeader();
+        return true;
+    }
+
+    /**
+     * Moves the unacknowledged records to the start of the file.
+     */
+    private void compact() {
+        if (readPosition == HEADER_SIZE) {
+            return;
+        }
+        int length = (int) (writePosition - readPosition);
+        buffer.put(HEADER_SIZE, buffer, (int) readPosition, length);
+        readPosition = HEADER_SIZE;
+        writePosition = HEADER_SIZE + length;
+        writeHeader();
+    }
+
+    /**
+     * Returns the oldest records without removing them; see {@link #acknowledge(List)}.
+     *
+     * @param max the maximum number of records to return
+     * @return the oldest records, in append order
+     */
+    public synchronized List<byte[]> peek(int max) {
+        List<byte[]> records = new ArrayList<>();
+        long position = readPosition;
+        while (position < writePosition && records.size() < max) {
+            byte[] payload = new byte[buffer.getInt((int) position)];
+            buffer.get((int) position + Integer.BYTES, payload);
+            records.add(payload);
+            position += Integer.BYTES + payload.length;
+        }
+        return records;
+    }
+
+    /**
+     * Removes records previously returned by {@link #peek(int)}.
+     *
+     * @param records the delivered prefix of the peeked records
+     */
+    public synchronized void acknowledge(List<byte[]> records) {
+        for (byte[] payload : records) {
+            readPosition += Integer.BYTES + payload.length;
+            count--;
+        }
+        if (readPosition == writePosition) {
+            readPosition = HEADER_SIZE;
+            writePosition = HEADER_SIZE;
+        }
+        writeHeader();
+    }
+
+    /**
+     * @return the number of records waiting to be replayed
+     */
+    public synchronized long size() {
+        return count;
+    }
+
+    /**
+     * Flushes the mapped file to disk on shutdown.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        buffer.force();
+    }
+}
@@ -0,0 +1,58 @@
+package com.info.ems.kafka.producers;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.info.ems.constants.Constants;
+import com.info.ems.kafka.NodeConfiguration;
+import com.info.ems.kafka.events.CacheInvalidationEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service responsible for broadcasting cache invalidations to the other nodes of the cluster.
+ */
+@Service
+@Slf4j
+public class CacheInvalidationProducerService {
+
+    // Kafka producer instance for sending cache invalidations
+    private final KafkaProducer<String, CacheInvalidationEvent> cacheInvalidationKafkaProducer;
+
+    // Identity of this node, stamped on every invalidation
+    private final NodeConfiguration nodeConfiguration;
+
+    /**
+     * Constructor for injecting dependencies into the service.
+     * 
+     * @param cacheInvalidationKafkaProducer the KafkaProducer instance used for sending messages
+     * @param nodeConfiguration              identity of this node
+     */
+    @Autowired
+    public CacheInvalidationProducerService(KafkaProducer<String, CacheInvalidationEvent> cacheInvalidationKafkaProducer,
+                                            NodeConfiguration nodeConfiguration) {
+        this.cacheInvalidationKafkaProducer = cacheInvalidationKafkaProducer;
+        this.nodeConfiguration = nodeConfiguration;
+    }
+
+    /**
+     * Publishes an invalidation of the given cache entry to every node.
+     * 
+     * @param cacheName the name of the cache
+     * @param key       the key of the entry to invalidate
+     */
+    public void publishInvalidation(String cacheName, Long key) {
+        log.trace("Publishing invalidation of {}[{}]", cacheName, key);
+        CacheInvalidationEvent event = new CacheInvalidationEvent(cacheName, key, nodeConfiguration.getNodeId());
+        cacheInvalidationKafkaProducer.send(
+                new ProducerRecord<>(Constants.CACHE_INVALIDATION_TOPIC, String.valueOf(key), event),
+                (metadata, exception) -> {
+                    if (exception != null) {
+                        // Other nodes keep the stale entry until it expires
+                        log.warn("Failed to publish invalidation of {}[{}]", cacheName, key, exception);
+                    }
+                });
+    }
+}
@@ -0,0 +1,45 @@
+package com.info.ems.kafka.serialization;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import com.info.ems.kafka.events.AuditLogEvent;
+
+/**
+ * Deserializes audit log events written in either {@link com.info.ems.constants.AuditLogSerialization}
+ * format, telling them apart by the Avro single-object header. Consumers therefore keep working while
+ * producers are switched from one format to the other.
+ */
+public class AuditLogEventDeserializer implements Deserializer<AuditLogEvent> {
+
+    private final AvroAuditLogEventCodec avroCodec;
+    private final JsonDeserializer<AuditLogEvent> jsonDeserializer;
+
+    /**
+     * @param schemaRegistry   the registry resolving the writer schema of Avro events
+     * @param jsonDeserializer the deserializer used for JSON events
+     */
+    public AuditLogEventDeserializer(AuditLogSchemaRegistry schemaRegistry, JsonDeserializer<AuditLogEvent> jsonDeserializer) {
+        this.avroCodec = new AvroAuditLogEventCodec(schemaRegistry);
+        this.jsonDeserializer = jsonDeserializer;
+    }
+
+    @Override
+    public AuditLogEvent deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public AuditLogEvent deserialize(String topic, Headers headers, byte[] data) {
+        if (AvroAuditLogEventCodec.isAvro(data)) {
+            return avroCodec.decode(data);
+        }
+        return headers == null ? jsonDeserializer.deserialize(topic, data) : jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
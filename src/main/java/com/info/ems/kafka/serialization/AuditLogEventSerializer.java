@@ -0,0 +1,48 @@
+package com.info.ems.kafka.serialization;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.info.ems.constants.AuditLogSerialization;
+import com.info.ems.kafka.events.AuditLogEvent;
+
+/**
+ * Serializes audit log events in the configured {@link AuditLogSerialization} format.
+ */
+public class AuditLogEventSerializer implements Serializer<AuditLogEvent> {
+
+    private final AuditLogSerialization serialization;
+    private final AvroAuditLogEventCodec avroCodec;
+    private final JsonSerializer<AuditLogEvent> jsonSerializer = new JsonSerializer<>();
+
+    /**
+     * @param serialization  the format events are written in
+     * @param schemaRegistry the registry providing the Avro schema
+     */
+    public AuditLogEventSerializer(AuditLogSerialization serialization, AuditLogSchemaRegistry schemaRegistry) {
+        this.serialization = serialization;
+        this.avroCodec = new AvroAuditLogEventCodec(schemaRegistry);
+    }
+
+    @Override
+    public byte[] serialize(String topic, AuditLogEvent event) {
+        return serialize(topic, null, event);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, AuditLogEvent event) {
+        if (event == null) {
+            return null;
+        }
+        return switch (serialization) {
+            case AVRO -> avroCodec.encode(event);
+            case JSON -> jsonSerializer.serialize(topic, headers, event);
+        };
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
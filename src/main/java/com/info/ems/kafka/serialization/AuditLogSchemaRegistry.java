@@ -0,0 +1,76 @@
+package com.info.ems.kafka.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.message.SchemaStore;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local stand-in for a schema registry: resolves the Avro schemas of audit log events by their
+ * 64-bit fingerprint, as written in the header of every encoded event.
+ * <p>
+ * The current schema is {@code avro/AuditLogEvent.avsc}. Once a version has been released, changing it means
+ * keeping the released one next to it (e.g. {@code avro/AuditLogEvent.v1.avsc}) so that events still in flight
+ * can be read after the upgrade; every {@code avro/AuditLogEvent*.avsc} resource is registered.
+ * </p>
+ */
+@Component
+@Slf4j
+public class AuditLogSchemaRegistry implements SchemaStore {
+
+    public static final String CURRENT_SCHEMA_LOCATION = "avro/AuditLogEvent.avsc";
+    private static final String SCHEMA_LOCATIONS = "classpath*:avro/AuditLogEvent*.avsc";
+
+    private final SchemaStore.Cache schemas = new SchemaStore.Cache();
+    private final Schema currentSchema;
+
+    /**
+     * Loads every audit log event schema from the classpath.
+     */
+    public AuditLogSchemaRegistry() {
+        Schema current = null;
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(SCHEMA_LOCATIONS)) {
+                Schema schema = parse(resource);
+                schemas.addSchema(schema);
+                log.debug("Registered audit log schema {} with fingerprint {}", resource.getFilename(),
+                        SchemaNormalization.parsingFingerprint64(schema));
+                if (CURRENT_SCHEMA_LOCATION.endsWith(resource.getFilename())) {
+                    current = schema;
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to load audit log schemas", ex);
+        }
+        if (current == null) {
+            throw new IllegalStateException("Missing audit log schema " + CURRENT_SCHEMA_LOCATION);
+        }
+        this.currentSchema = current;
+    }
+
+    private static Schema parse(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return new Schema.Parser().parse(in);
+        }
+    }
+
+    /**
+     * @return the schema new events are written with
+     */
+    public Schema getCurrentSchema() {
+        return currentSchema;
+    }
+
+    @Override
+    public Schema findByFingerprint(long fingerprint) {
+        return schemas.findByFingerprint(fingerprint);
+    }
+}
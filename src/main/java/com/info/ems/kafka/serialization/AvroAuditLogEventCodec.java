@@ -0,0 +1,177 @@
+package com.info.ems.kafka.serialization;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+
+import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.kafka.events.EmployeeSnapshot;
+import com.info.ems.kafka.events.EmployeeSnapshot.AddressSnapshot;
+import com.info.ems.kafka.events.FieldChange;
+
+/**
+ * Encodes {@link AuditLogEvent}s as Avro binary using the single-object encoding: two magic bytes, the
+ * 8-byte fingerprint of the writer schema, then the record without any field names. Decoding looks the
+ * writer schema up in the {@link AuditLogSchemaRegistry} and resolves it against the current schema.
+ * <p>
+ * Both directions are thread-safe.
+ * </p>
+ */
+public class AvroAuditLogEventCodec {
+
+    // Header of the Avro single-object encoding, followed by the schema fingerprint
+    static final byte[] MAGIC = {(byte) 0xC3, (byte) 0x01};
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final Schema eventSchema;
+    private final Schema employeeSchema;
+    private final Schema addressesSchema;
+    private final Schema addressSchema;
+    private final Schema changesSchema;
+    private final Schema changeSchema;
+    private final BinaryMessageEncoder<GenericRecord> encoder;
+    private final BinaryMessageDecoder<GenericRecord> decoder;
+
+    /**
+     * @param schemaRegistry the registry providing the current schema and resolving writer schemas
+     */
+    public AvroAuditLogEventCodec(AuditLogSchemaRegistry schemaRegistry) {
+        this.eventSchema = schemaRegistry.getCurrentSchema();
+        this.employeeSchema = nonNull(eventSchema.getField("details").schema());
+        this.addressesSchema = employeeSchema.getField("addresses").schema();
+        this.addressSchema = addressesSchema.getElementType();
+        this.changesSchema = eventSchema.getField("changes").schema();
+        this.changeSchema = changesSchema.getElementType();
+        this.encoder = new BinaryMessageEncoder<>(GenericData.get(), eventSchema);
+        this.decoder = new BinaryMessageDecoder<>(GenericData.get(), eventSchema, schemaRegistry);
+    }
+
+    private static Schema nonNull(Schema schema) {
+        return schema.isUnion() ? schema.getTypes().get(1) : schema;
+    }
+
+    /**
+     * @return whether the payload starts with the Avro single-object header
+     */
+    public static boolean isAvro(byte[] data) {
+        return data != null && data.length > MAGIC.length && data[0] == MAGIC[0] && data[1] == MAGIC[1];
+    }
+
+    public byte[] encode(AuditLogEvent event) {
+        try {
+            ByteBuffer buffer = encoder.encode(toRecord(event));
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public AuditLogEvent decode(byte[] data) {
+        try {
+            return fromRecord(decoder.decode(data));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private GenericRecord toRecord(AuditLogEvent event) {
+        List<FieldChange> changes = event.getChanges() == null ? List.of() : event.getChanges();
+        GenericData.Array<GenericRecord> changeRecords = new GenericData.Array<>(changes.size(), changesSchema);
+        for (FieldChange change : changes) {
+            GenericRecord changeRecord = new GenericData.Record(changeSchema);
+            changeRecord.put("field", change.getField());
+            changeRecord.put("oldValue", change.getOldValue());
+            changeRecord.put("newValue", change.getNewValue());
+            changeRecords.add(changeRecord);
+        }
+
+        GenericRecord eventRecord = new GenericData.Record(eventSchema);
+        eventRecord.put("operation", event.getOperation());
+        eventRecord.put("timestamp", ChronoUnit.MICROS.between(EPOCH, event.getTimestamp()));
+        eventRecord.put("entityId", event.getEntityId());
+        eventRecord.put("details", event.getDetails() == null ? null : toRecord(event.getDetails()));
+        eventRecord.put("changes", changeRecords);
+        return eventRecord;
+    }
+
+    private GenericRecord toRecord(EmployeeSnapshot employee) {
+        List<AddressSnapshot> addresses = employee.getAddresses() == null ? List.of() : employee.getAddresses();
+        GenericData.Array<GenericRecord> addressRecords = new GenericData.Array<>(addresses.size(), addressesSchema);
+        for (AddressSnapshot address : addresses) {
+            GenericRecord addressRecord = new GenericData.Record(addressSchema);
+            addressRecord.put("id", address.getId());
+            addressRecord.put("street", address.getStreet());
+            addressRecord.put("city", address.getCity());
+            addressRecord.put("state", address.getState());
+            addressRecord.put("postalCode", address.getPostalCode());
+            addressRecords.add(addressRecord);
+        }
+
+        GenericRecord employeeRecord = new GenericData.Record(employeeSchema);
+        employeeRecord.put("id", employee.getId());
+        employeeRecord.put("name", employee.getName());
+        employeeRecord.put("email", employee.getEmail());
+        employeeRecord.put("phone", employee.getPhone());
+        employeeRecord.put("hireDate", employee.getHireDate() == null ? null : (int) employee.getHireDate().toEpochDay());
+        employeeRecord.put("addresses", addressRecords);
+        return employeeRecord;
+    }
+
+    private static AuditLogEvent fromRecord(GenericRecord eventRecord) {
+        @SuppressWarnings("unchecked")
+        List<GenericRecord> changeRecords = (List<GenericRecord>) eventRecord.get("changes");
+        List<FieldChange> changes = new ArrayList<>(changeRecords.size());
+        for (GenericRecord changeRecord : changeRecords) {
+            changes.add(new FieldChange((String) changeRecord.get("field"),
+                    (String) changeRecord.get("oldValue"), (String) changeRecord.get("newValue")));
+        }
+        GenericRecord employeeRecord = (GenericRecord) eventRecord.get("details");
+
+        return AuditLogEvent.builder()
+                .operation((String) eventRecord.get("operation"))
+                .timestamp(EPOCH.plus((Long) eventRecord.get("timestamp"), ChronoUnit.MICROS))
+                .entityId((Long) eventRecord.get("entityId"))
+                .details(employeeRecord == null ? null : fromEmployeeRecord(employeeRecord))
+                .changes(changes.isEmpty() ? null : changes)
+                .build();
+    }
+
+    private static EmployeeSnapshot fromEmployeeRecord(GenericRecord employeeRecord) {
+        @SuppressWarnings("unchecked")
+        List<GenericRecord> addressRecords = (List<GenericRecord>) employeeRecord.get("addresses");
+        List<AddressSnapshot> addresses = new ArrayList<>(addressRecords.size());
+        for (GenericRecord addressRecord : addressRecords) {
+            addresses.add(AddressSnapshot.builder()
+                    .id((Long) addressRecord.get("id"))
+                    .street((String) addressRecord.get("street"))
+                    .city((String) addressRecord.get("city"))
+                    .state((String) addressRecord.get("state"))
+                    .postalCode((String) addressRecord.get("postalCode"))
+                    .build());
+        }
+        Integer hireDate = (Integer) employeeRecord.get("hireDate");
+
+        return EmployeeSnapshot.builder()
+                .id((Long) employeeRecord.get("id"))
+                .name((String) employeeRecord.get("name"))
+                .email((String) employeeRecord.get("email"))
+                .phone((String) employeeRecord.get("phone"))
+                .hireDate(hireDate == null ? null : LocalDate.ofEpochDay(hireDate))
+                .addresses(addresses)
+                .build();
+    }
+}
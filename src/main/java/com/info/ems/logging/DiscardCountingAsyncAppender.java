@@ -0,0 +1,36 @@
+package com.info.ems.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Logback {@link AsyncAppender} that counts the events it discards.
+ * <p>
+ * Events are handed to a bounded queue drained by a single worker thread. Once fewer than
+ * {@code discardingThreshold} slots are left, TRACE to INFO events are discarded, and counted here; with
+ * {@code neverBlock} a full queue drops WARN and ERROR events as well rather than blocking the caller.
+ * </p>
+ */
+public class DiscardCountingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        // Only asked while the queue is below the discarding threshold
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discarded.increment();
+        }
+        return discardable;
+    }
+
+    /**
+     * @return the number of events discarded because the queue was nearly full
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+}
@@ -0,0 +1,53 @@
+package com.info.ems.logging;
+
+import java.util.Iterator;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the state of the logging pipeline configured in {@code logback-spring.xml}: events queued and
+ * discarded by the async appenders ({@code ems.logging.queued}, {@code ems.logging.discarded}) and events
+ * skipped by the sampling filters ({@code ems.logging.sampled.out}).
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        Iterator<Appender<ILoggingEvent>> appenders =
+                context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof DiscardCountingAsyncAppender appender) {
+                Gauge.builder("ems.logging.queued", appender, DiscardCountingAsyncAppender::getNumberOfElementsInQueue)
+                        .description("Logging events waiting in the async appender queue")
+                        .tag("appender", appender.getName())
+                        .register(meterRegistry);
+                FunctionCounter.builder("ems.logging.discarded", appender, DiscardCountingAsyncAppender::getDiscardedCount)
+                        .description("TRACE to INFO logging events discarded because the async appender queue was nearly full")
+                        .tag("appender", appender.getName())
+                        .register(meterRegistry);
+            }
+        }
+        for (TurboFilter turboFilter : context.getTurboFilterList()) {
+            if (turboFilter instanceof SamplingTurboFilter filter) {
+                FunctionCounter.builder("ems.logging.sampled.out", filter, SamplingTurboFilter::getSampledOutCount)
+                        .description("Logging events skipped by sampling")
+                        .tag("logger", filter.getLogger())
+                        .register(meterRegistry);
+            }
+        }
+    }
+}
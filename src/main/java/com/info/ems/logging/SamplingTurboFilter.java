@@ -0,0 +1,107 @@
+package com.info.ems.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Logback turbo filter logging only one in {@code rate} events of a logger (and its descendants) at or
+ * below {@code level}, INFO by default. More severe events are always logged.
+ * <p>
+ * Turbo filters run before the logging event is created, so a sampled-out call costs neither the
+ * allocation of the event nor a slot in the async appender queue. Configured in {@code logback-spring.xml}:
+ * </p>
+ * <pre>
+ * &lt;turboFilter class="com.info.ems.logging.SamplingTurboFilter"&gt;
+ *     &lt;logger&gt;com.info.ems.kafka.consumers.AuditLogConsumerService&lt;/logger&gt;
+ *     &lt;rate&gt;100&lt;/rate&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String logger;
+    private int rate = 1;
+    private Level level = Level.INFO;
+
+    private final AtomicLong candidates = new AtomicLong();
+    private final LongAdder sampledOut = new LongAdder();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // A null format is an isXxxEnabled() check, which must not count as an event
+        if (!isStarted() || format == null || level.toInt() > this.level.toInt() || !matches(logger.getName())
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (candidates.getAndIncrement() % rate == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        sampledOut.increment();
+        return FilterReply.DENY;
+    }
+
+    private boolean matches(String name) {
+        return name.startsWith(logger)
+                && (name.length() == logger.length() || name.charAt(logger.length()) == '.');
+    }
+
+    @Override
+    public void start() {
+        if (logger == null || logger.isBlank()) {
+            addError("No logger set for the SamplingTurboFilter named " + getName());
+            return;
+        }
+        if (rate < 1) {
+            addError("The rate of the SamplingTurboFilter for " + logger + " must be at least 1, not " + rate);
+            return;
+        }
+        super.start();
+    }
+
+    /**
+     * @return the number of events not logged
+     */
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+
+    public String getLogger() {
+        return logger;
+    }
+
+    /**
+     * @param logger the name of the sampled logger; events of its descendants are sampled as well
+     */
+    public void setLogger(String logger) {
+        this.logger = logger;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    /**
+     * @param rate one in {@code rate} events is logged
+     */
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * @param level the most severe level that is sampled
+     */
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+}
@@ -1,10 +1,11 @@
 package com.info.ems.mapper;
 
+import java.util.List;
+
 import org.mapstruct.Mapper;
-import org.mapstruct.Mapping;
-import org.mapstruct.Named;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
+import com.info.ems.dtos.response.AuditLogResponseDto;
 import com.info.ems.kafka.events.AuditLogEvent;
 import com.info.ems.models.AuditLog;
 
@@ -12,12 +13,9 @@ import com.info.ems.models.AuditLog;
         componentModel = "spring",
         nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
 public abstract class AuditLogMapper {
-	@Mapping(source = "details",target = "details",qualifiedByName = "mapDetailsField")
 	public abstract AuditLog toEntity(AuditLogEvent event);
 
-	@Named("mapDetailsField")
-	public String mapDetailsField(Object details)
-	{
-		return details.toString();
-	}
+	public abstract List<AuditLog> toEntities(List<AuditLogEvent> events);
+
+	public abstract AuditLogResponseDto toDto(AuditLog auditLog);
 }
@@ -1,11 +1,17 @@
 package com.info.ems.mapper;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import com.info.ems.dtos.request.CreateEmployee;
+import com.info.ems.dtos.response.AddressResponseDto;
 import com.info.ems.dtos.response.EmployeeResponseDto;
+import com.info.ems.kafka.events.EmployeeSnapshot;
 import com.info.ems.models.Employee;
+import com.info.ems.repositories.projections.EmployeeAddressRow;
 
 @Mapper(
         componentModel = "spring",
@@ -15,4 +21,28 @@ public interface EmployeeMapper {
 	Employee toEntity(CreateEmployee request);
 	
 	EmployeeResponseDto toDto(Employee employee);
+
+	EmployeeSnapshot toSnapshot(Employee employee);
+
+	/**
+	 * Assembles employee DTOs from employee/address rows, which must be grouped by employee.
+	 *
+	 * @param rows the rows of one or more employees
+	 * @return one DTO per employee, in row order
+	 */
+	default List<EmployeeResponseDto> fromRows(List<EmployeeAddressRow> rows) {
+		List<EmployeeResponseDto> employees = new ArrayList<>();
+		EmployeeResponseDto current = null;
+		for (EmployeeAddressRow row : rows) {
+			if (current == null || !current.getId().equals(row.id())) {
+				current = new EmployeeResponseDto(row.id(), row.name(), row.email(), row.phone(), new ArrayList<>());
+				employees.add(current);
+			}
+			if (row.addressId() != null) {
+				current.getAddresses().add(new AddressResponseDto(
+						row.addressId(), row.street(), row.city(), row.state(), row.postalCode()));
+			}
+		}
+		return employees;
+	}
 }
@@ -1,12 +1,21 @@
 package com.info.ems.models;
 
 import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.info.ems.kafka.events.EmployeeSnapshot;
+import com.info.ems.kafka.events.FieldChange;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,19 +27,34 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "auditLog")
+@Table(name = "auditLog", indexes = {
+		@Index(name = "idx_audit_log_entity_timestamp", columnList = "entity_id, timestamp"),
+		@Index(name = "idx_audit_log_operation_timestamp", columnList = "operation, timestamp"),
+		@Index(name = "idx_audit_log_timestamp", columnList = "timestamp")
+})
 public class AuditLog {
 
+	// Pooled sequence instead of IDENTITY so that inserts can be JDBC batched
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_log_seq")
+	@SequenceGenerator(name = "audit_log_seq", sequenceName = "audit_log_seq", allocationSize = 500)
 	private Long id;
 
+	// Id of the audited employee
+	@Column(name = "entity_id")
+	private Long entityId;
+
 	@Column(nullable = false)
 	private String operation;
 
 	@Column(nullable = false)
 	private LocalDateTime timestamp;
 
-	@Column(nullable = false)
-	private String details;
+	// Full employee for CREATE and DELETE, stored as JSON
+	@JdbcTypeCode(SqlTypes.JSON)
+	private EmployeeSnapshot details;
+
+	// Changed fields only for UPDATE, stored as JSON
+	@JdbcTypeCode(SqlTypes.JSON)
+	private List<FieldChange> changes;
 }
@@ -0,0 +1,48 @@
+package com.info.ems.models;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of audit log entries per day and operation, maintained as entries are written so that
+ * reports never have to scan the raw audit log.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "audit_log_daily_rollup")
+public class AuditLogDailyRollup {
+
+	@EmbeddedId
+	private Key id;
+
+	@Column(name = "event_count", nullable = false)
+	private long eventCount;
+
+	@Data
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Embeddable
+	public static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		@Column(name = "rollup_day", nullable = false)
+		private LocalDate day;
+
+		@Column(nullable = false)
+		private String operation;
+	}
+}
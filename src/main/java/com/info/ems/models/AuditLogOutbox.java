@@ -0,0 +1,41 @@
+package com.info.ems.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Audit log event waiting to be relayed to Kafka, written in the same transaction as the change it describes.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "audit_log_outbox")
+public class AuditLogOutbox {
+
+	// Assigned by the database on insert rather than from a pooled sequence: the relay sends entries in id
+	// order, and ids reserved in blocks per node would let a later change of an employee sort before an earlier one
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// The AuditLogEvent serialized as JSON
+	@Lob
+	@Column(nullable = false)
+	private String payload;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+}
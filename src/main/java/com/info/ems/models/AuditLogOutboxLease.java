@@ -0,0 +1,34 @@
+package com.info.ems.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lease electing the node that relays the audit log outbox, held until it expires unless its owner renews it.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "audit_log_outbox_lease")
+public class AuditLogOutboxLease {
+
+	@Id
+	private String name;
+
+	// Node ID of the holder
+	@Column(nullable = false)
+	private String owner;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+}
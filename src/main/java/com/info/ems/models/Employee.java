@@ -3,6 +3,10 @@ package com.info.ems.models;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.info.ems.constants.Constants;
+
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -12,7 +16,16 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "employee")
+@DynamicUpdate
+@NamedQuery(name = "Employee.findRowsById",
+        query = "select new com.info.ems.repositories.projections.EmployeeAddressRow("
+                + "e.id, e.name, e.email, e.phone, a.id, a.street, a.city, a.state, a.postalCode) "
+                + "from Employee e left join e.addresses a where e.id = :id order by a.id")
+@NamedQuery(name = "Employee.findRowsByIdIn",
+        query = "select new com.info.ems.repositories.projections.EmployeeAddressRow("
+                + "e.id, e.name, e.email, e.phone, a.id, a.street, a.city, a.state, a.postalCode) "
+                + "from Employee e left join e.addresses a where e.id in :ids order by e.id, a.id")
+@Table(name = "employee", uniqueConstraints = @UniqueConstraint(name = Constants.EMPLOYEE_EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"))
 public class Employee{
 	
 	  @Id
@@ -31,8 +44,8 @@ public class Employee{
     @Column(name = "hire_date")
     private LocalDate hireDate;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    @JoinColumn(name = "employee_id",referencedColumnName = "id")
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id",referencedColumnName = "id", nullable = false, updatable = false)
     private List<Address> addresses;
 
 }
@@ -0,0 +1,44 @@
+package com.info.ems.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.info.ems.models.AuditLogDailyRollup;
+
+/**
+ * Repository interface for managing AuditLogDailyRollup entities.
+ */
+@Repository
+public interface AuditLogDailyRollupRepository extends JpaRepository<AuditLogDailyRollup, AuditLogDailyRollup.Key> {
+
+    /**
+     * Adds to the count of a day and operation, creating the row if needed, in a single statement.
+     *
+     * @param day       the day of the audit log entries
+     * @param operation the operation of the audit log entries
+     * @param count     the number of entries to add
+     */
+    @Modifying
+    @Query(value = "insert into audit_log_daily_rollup (rollup_day, operation, event_count) values (:day, :operation, :count) "
+            + "on duplicate key update event_count = event_count + :count", nativeQuery = true)
+    void increment(@Param("day") LocalDate day, @Param("operation") String operation, @Param("count") long count);
+
+    /**
+     * Returns the daily counts of the given range, optionally for one operation only.
+     *
+     * @param from      the first day, inclusive
+     * @param to        the last day, exclusive
+     * @param operation the operation to report on, or null for all operations
+     * @return the daily counts ordered by day and operation
+     */
+    @Query("select r from AuditLogDailyRollup r where r.id.day >= :from and r.id.day < :to "
+            + "and (:operation is null or r.id.operation = :operation) order by r.id.day, r.id.operation")
+    List<AuditLogDailyRollup> findRange(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                        @Param("operation") String operation);
+}
@@ -0,0 +1,45 @@
+package com.info.ems.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.info.ems.models.AuditLogOutboxLease;
+
+/**
+ * Repository interface for managing AuditLogOutboxLease entities.
+ */
+@Repository
+public interface AuditLogOutboxLeaseRepository extends JpaRepository<AuditLogOutboxLease, String> {
+
+    /**
+     * Takes or extends a lease, unless another node holds it and it has not expired yet.
+     *
+     * @param name  the name of the lease
+     * @param owner the node taking the lease
+     * @param now   the current time
+     * @param until the new expiry of the lease
+     * @return 1 if the lease is now held by the owner, 0 otherwise
+     */
+    @Modifying
+    @Query("update AuditLogOutboxLease l set l.owner = :owner, l.expiresAt = :until "
+            + "where l.name = :name and (l.owner = :owner or l.expiresAt < :now)")
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now,
+                @Param("until") LocalDateTime until);
+
+    /**
+     * Extends a lease, only if the owner still holds it.
+     *
+     * @param name  the name of the lease
+     * @param owner the node holding the lease
+     * @param until the new expiry of the lease
+     * @return 1 if the lease was extended, 0 if another node took it over
+     */
+    @Modifying
+    @Query("update AuditLogOutboxLease l set l.expiresAt = :until where l.name = :name and l.owner = :owner")
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("until") LocalDateTime until);
+}
@@ -0,0 +1,27 @@
+package com.info.ems.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.info.ems.models.AuditLogOutbox;
+
+/**
+ * Repository interface for managing AuditLogOutbox entities.
+ */
+@Repository
+public interface AuditLogOutboxRepository extends JpaRepository<AuditLogOutbox, Long> {
+
+    /**
+     * Returns the oldest outbox entries without locking them, so that the relay can send them outside
+     * of any transaction.
+     *
+     * @param limit the maximum number of entries to return
+     * @return the oldest entries, in insertion order
+     */
+    @Query("select o from AuditLogOutbox o order by o.id")
+    List<AuditLogOutbox> findOldest(Limit limit);
+}
@@ -1,15 +1,16 @@
 package com.info.ems.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import com.info.ems.models.AuditLog;
 /**
  * Repository interface for managing AuditLog entities.
- * Extends JpaRepository to provide CRUD operations and additional query methods.
+ * Extends JpaRepository to provide CRUD operations and additional query methods, and
+ * JpaSpecificationExecutor for the filtered audit log queries built from {@link AuditLogSpecifications}.
  */
 @Repository
-public interface AuditLogRepository extends JpaRepository<AuditLog, Long>{
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, JpaSpecificationExecutor<AuditLog> {
 
 }
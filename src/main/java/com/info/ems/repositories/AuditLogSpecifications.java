@@ -0,0 +1,45 @@
+package com.info.ems.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.info.ems.models.AuditLog;
+
+/**
+ * Composable filters for audit log queries. Every filter ignores a null argument, so unused filters
+ * can be combined freely without adding conditions.
+ */
+public final class AuditLogSpecifications {
+
+	private AuditLogSpecifications() {
+	}
+
+	public static Specification<AuditLog> hasEntityId(Long entityId) {
+		return (root, query, cb) -> entityId == null ? null : cb.equal(root.get("entityId"), entityId);
+	}
+
+	public static Specification<AuditLog> hasOperation(String operation) {
+		return (root, query, cb) -> operation == null ? null : cb.equal(root.get("operation"), operation);
+	}
+
+	public static Specification<AuditLog> from(LocalDateTime from) {
+		return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("timestamp"), from);
+	}
+
+	public static Specification<AuditLog> to(LocalDateTime to) {
+		return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("timestamp"), to);
+	}
+
+	/**
+	 * Keyset condition selecting the entries that come after the given one in (timestamp desc, id desc) order.
+	 *
+	 * @param timestamp the timestamp of the last entry of the previous page, or null for the first page
+	 * @param id        the id of the last entry of the previous page
+	 */
+	public static Specification<AuditLog> before(LocalDateTime timestamp, Long id) {
+		return (root, query, cb) -> timestamp == null ? null : cb.or(
+				cb.lessThan(root.get("timestamp"), timestamp),
+				cb.and(cb.equal(root.get("timestamp"), timestamp), cb.lessThan(root.get("id"), id)));
+	}
+}
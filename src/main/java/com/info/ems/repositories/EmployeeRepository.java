@@ -1,18 +1,26 @@
 package com.info.ems.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.info.ems.models.Employee;
+import com.info.ems.repositories.projections.EmployeeAddressRow;
 
 /**
  * Repository interface for managing Employee entities.
  * Extends JpaRepository to provide CRUD operations and additional query methods.
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeStreamingRepository {
     
     /**
      * Retrieves an Employee entity based on the provided email address.
@@ -21,4 +29,63 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      * @return an Optional containing the Employee if found, or empty if not found
      */
     Optional<Employee> findByEmail(String email);
+
+    /**
+     * Retrieves an Employee entity together with its addresses in a single query.
+     *
+     * @param id the id of the employee to find
+     * @return an Optional containing the Employee with initialized addresses if found, or empty if not found
+     */
+    @EntityGraph(attributePaths = "addresses")
+    Optional<Employee> findWithAddressesById(Long id);
+
+    /**
+     * Checks whether an employee with the given email exists, using the unique email index.
+     *
+     * @param email the email address to check
+     * @return true if an employee with this email exists
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Returns which of the given email addresses already belong to an employee, using a single query.
+     *
+     * @param emails the email addresses to check
+     * @return the subset of the given emails that are already taken
+     */
+    @Query("select e.email from Employee e where e.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Returns the next page of employee ids after the given cursor, seeking on the primary key
+     * rather than using OFFSET so every page costs the same.
+     *
+     * @param afterId the last id of the previous page (0 for the first page)
+     * @param limit   the maximum number of ids to return
+     * @return the ids greater than {@code afterId}, in ascending order
+     */
+    @Query("select e.id from Employee e where e.id > :afterId order by e.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Reads an employee and its addresses as flat rows, without hydrating or tracking entities.
+     * <p>
+     * Declared as a named query on {@link Employee}: named queries are compiled once at startup,
+     * whereas an {@code @Query} string is reprocessed by Spring Data on every call.
+     * </p>
+     *
+     * @param id the id of the employee to read
+     * @return one row per address (a single row with null address columns if there is none),
+     *         or an empty list if the employee does not exist
+     */
+    List<EmployeeAddressRow> findRowsById(@Param("id") Long id);
+
+    /**
+     * Reads the given employees and their addresses as flat rows in a single query, without
+     * hydrating or tracking entities. Declared as a named query on {@link Employee}.
+     *
+     * @param ids the ids of the employees to read
+     * @return one row per employee and address, ordered by employee id then address id
+     */
+    List<EmployeeAddressRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
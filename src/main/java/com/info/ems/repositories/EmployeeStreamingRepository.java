@@ -0,0 +1,25 @@
+package com.info.ems.repositories;
+
+import java.util.stream.Stream;
+
+import com.info.ems.models.Employee;
+
+/**
+ * Employee queries streamed through a forward-only, read-only cursor.
+ * <p>
+ * Rows are fetched from the driver as they are consumed instead of materializing the whole result set,
+ * so callers must consume the streams inside a transaction and close them afterwards.
+ * </p>
+ */
+public interface EmployeeStreamingRepository {
+
+    /**
+     * @return a stream of all employees with their addresses, ordered by id
+     */
+    Stream<Employee> streamAllWithAddresses();
+
+    /**
+     * @return a stream of all employee emails
+     */
+    Stream<String> streamAllEmails();
+}
@@ -0,0 +1,58 @@
+package com.info.ems.repositories;
+
+import java.util.stream.Stream;
+
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.info.ems.constants.Constants;
+import com.info.ems.models.Employee;
+import com.info.ems.utils.MySqlLockUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Implementation of {@link EmployeeStreamingRepository}, with a fetch size chosen for the database in use:
+ * {@link Constants#MYSQL_STREAMING_FETCH_SIZE} on MySQL, {@link Constants#STREAMING_FETCH_SIZE} elsewhere.
+ */
+class EmployeeStreamingRepositoryImpl implements EmployeeStreamingRepository {
+
+    private final EntityManager entityManager;
+
+    // Resolved from the first connection used, the database does not change afterwards
+    private volatile Integer fetchSize;
+
+    @Autowired
+    EmployeeStreamingRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Stream<Employee> streamAllWithAddresses() {
+        return streamed(entityManager.createQuery("select e from Employee e left join fetch e.addresses order by e.id",
+                Employee.class)).getResultStream();
+    }
+
+    @Override
+    public Stream<String> streamAllEmails() {
+        return streamed(entityManager.createQuery("select e.email from Employee e", String.class)).getResultStream();
+    }
+
+    private <T> TypedQuery<T> streamed(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false);
+    }
+
+    private int fetchSize() {
+        Integer size = fetchSize;
+        if (size == null) {
+            boolean mySql = entityManager.unwrap(Session.class).doReturningWork(MySqlLockUtils::isMySql);
+            size = mySql ? Constants.MYSQL_STREAMING_FETCH_SIZE : Constants.STREAMING_FETCH_SIZE;
+            fetchSize = size;
+        }
+        return size;
+    }
+}
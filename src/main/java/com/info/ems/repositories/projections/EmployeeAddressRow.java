@@ -0,0 +1,17 @@
+package com.info.ems.repositories.projections;
+
+/**
+ * One row of an employee joined with one of its addresses, selected straight from the database
+ * without creating managed entities. The address columns are null for an employee without addresses.
+ */
+public record EmployeeAddressRow(
+        Long id,
+        String name,
+        String email,
+        String phone,
+        Long addressId,
+        String street,
+        String city,
+        String state,
+        String postalCode) {
+}
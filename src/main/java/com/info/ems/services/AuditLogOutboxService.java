@@ -0,0 +1,11 @@
+package com.info.ems.services;
+
+import java.util.List;
+
+import com.info.ems.kafka.events.AuditLogEvent;
+
+public interface AuditLogOutboxService {
+	void record(AuditLogEvent event);
+
+	void recordAll(List<AuditLogEvent> events);
+}
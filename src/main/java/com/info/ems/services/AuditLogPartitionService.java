@@ -0,0 +1,5 @@
+package com.info.ems.services;
+
+public interface AuditLogPartitionService {
+	void maintainPartitions();
+}
@@ -1,5 +1,12 @@
 package com.info.ems.services;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.info.ems.dtos.response.AuditLogDailyCountResponseDto;
+import com.info.ems.dtos.response.AuditLogPageResponseDto;
+
 import com.info.ems.kafka.events.AuditLogEvent;
 import com.info.ems.models.AuditLog;
 
@@ -7,4 +14,11 @@ import jakarta.validation.Valid;
 
 public interface AuditLogService {
 	AuditLog createAuditLog(@Valid AuditLogEvent event);
+
+	List<AuditLog> createAuditLogs(List<@Valid AuditLogEvent> events);
+
+	AuditLogPageResponseDto searchAuditLogs(Long entityId, String operation, LocalDateTime from, LocalDateTime to,
+			String cursor, int limit);
+
+	List<AuditLogDailyCountResponseDto> getDailyCounts(LocalDate from, LocalDate to, String operation);
 }
@@ -0,0 +1,11 @@
+package com.info.ems.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.info.ems.constants.ExportFormat;
+
+public interface EmployeeExportService {
+
+	long exportEmployees(ExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,11 @@
+package com.info.ems.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.info.ems.dtos.response.ImportSummaryResponseDto;
+
+public interface EmployeeImportService {
+
+	ImportSummaryResponseDto importEmployees(InputStream csv) throws IOException;
+}
@@ -1,8 +1,12 @@
 package com.info.ems.services;
 
+import java.util.List;
 import java.util.Map;
 
 import com.info.ems.dtos.request.CreateEmployee;
+import com.info.ems.dtos.request.PatchEmployee;
+import com.info.ems.dtos.response.BulkEmployeeResponseDto;
+import com.info.ems.dtos.response.EmployeePageResponseDto;
 import com.info.ems.dtos.response.EmployeeResponseDto;
 
 import jakarta.validation.Valid;
@@ -10,10 +14,16 @@ import jakarta.validation.Valid;
 public interface EmployeeService {
 
 	EmployeeResponseDto createEmployee(@Valid CreateEmployee request);
+
+	List<BulkEmployeeResponseDto> createEmployees(List<@Valid CreateEmployee> requests);
 	
 	EmployeeResponseDto getEmployeeById(Long id);
+
+	EmployeePageResponseDto listEmployees(Long afterId, int limit);
 	
 	EmployeeResponseDto updateEmployee(Long id,@Valid CreateEmployee request);
+
+	EmployeeResponseDto patchEmployee(Long id, @Valid PatchEmployee patch);
 	
 	Map<String,Object> deleteEmployee(Long id);
 }
@@ -0,0 +1,98 @@
+package com.info.ems.services.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.kafka.producers.AuditLogProducerService;
+import com.info.ems.models.AuditLogOutbox;
+import com.info.ems.repositories.AuditLogOutboxRepository;
+import com.info.ems.services.AuditLogOutboxService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service implementation recording audit log events in the outbox table.
+ * <p>
+ * Events are written in the caller's transaction, so they are committed or rolled back together with
+ * the change they describe, and relayed to Kafka afterwards by
+ * {@link com.info.ems.kafka.producers.AuditLogOutboxRelay}. With {@code ems.audit.outbox.enabled=false}
+ * events are handed straight to the {@link AuditLogProducerService} instead.
+ * </p>
+ */
+@Service
+@Slf4j
+public class AuditLogOutboxServiceImpl implements AuditLogOutboxService {
+
+    private final AuditLogOutboxRepository auditLogOutboxRepository;
+    private final AuditLogProducerService auditLogProducerService;
+    private final ObjectMapper objectMapper;
+    private final boolean outboxEnabled;
+
+    /**
+     * Constructor for injecting dependencies.
+     *
+     * @param auditLogOutboxRepository the repository for outbox entries
+     * @param auditLogProducerService  the producer used when the outbox is disabled
+     * @param objectMapper             the mapper used to serialize events
+     * @param outboxEnabled            whether events go through the outbox table
+     */
+    @Autowired
+    public AuditLogOutboxServiceImpl(AuditLogOutboxRepository auditLogOutboxRepository,
+                                     AuditLogProducerService auditLogProducerService, ObjectMapper objectMapper,
+                                     @Value("${ems.audit.outbox.enabled:true}") boolean outboxEnabled) {
+        this.auditLogOutboxRepository = auditLogOutboxRepository;
+        this.auditLogProducerService = auditLogProducerService;
+        this.objectMapper = objectMapper;
+        this.outboxEnabled = outboxEnabled;
+    }
+
+    /**
+     * Records an audit log event in the current transaction.
+     *
+     * @param event the audit log event to record
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(AuditLogEvent event) {
+        recordAll(List.of(event));
+    }
+
+    /**
+     * Records audit log events in the current transaction.
+     *
+     * @param events the audit log events to record
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(List<AuditLogEvent> events) {
+        if (!outboxEnabled) {
+            auditLogProducerService.sendAuditLogEventsToKafka(events);
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<AuditLogOutbox> entries = new ArrayList<>(events.size());
+        for (AuditLogEvent event : events) {
+            entries.add(AuditLogOutbox.builder().payload(serialize(event)).createdAt(now).build());
+        }
+        auditLogOutboxRepository.saveAll(entries);
+        log.trace("Recorded {} audit log events in the outbox", entries.size());
+    }
+
+    private String serialize(AuditLogEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize audit log event " + event.getOperation(), ex);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.info.ems.services.impl;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.info.ems.constants.AuditLogRetentionMode;
+import com.info.ems.constants.Constants;
+import com.info.ems.services.AuditLogPartitionService;
+import com.info.ems.utils.MySqlLockUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the audit log table range partitioned by month on MySQL.
+ * <p>
+ * On first run the table is converted to monthly {@code RANGE COLUMNS(timestamp)} partitions (the primary
+ * key becomes {@code (id, timestamp)}, as MySQL requires the partitioning column in every unique key), with a
+ * single {@code ALTER TABLE} that copies the table once. That first run starts in the background once the
+ * application is ready, so that a large table does not hold up the startup.
+ * Every run then creates the partitions of the coming months by splitting the empty catch-all partition,
+ * and drops or archives partitions older than the retention period. Both are metadata operations whose
+ * cost does not depend on the number of rows, unlike a DELETE of expired rows.
+ * </p>
+ * <p>
+ * Other databases are left untouched. Runs are serialized across nodes with a MySQL named lock.
+ * </p>
+ */
+@Service
+@Slf4j
+public class AuditLogPartitionServiceImpl implements AuditLogPartitionService {
+
+    private static final String LOCK_NAME = "ems_audit_log_partitions";
+    private static final String CATCH_ALL_PARTITION = "pmax";
+    private static final String PARTITION_PREFIX = "p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final AuditLogRetentionMode retentionMode;
+
+    /**
+     * Constructor for injecting dependencies and settings.
+     *
+     * @param jdbcTemplate    the template used to run the partition DDL
+     * @param enabled         whether the audit log table is partitioned at all
+     * @param monthsAhead     the number of future monthly partitions kept ready
+     * @param retentionMonths the number of past months kept, besides the current one
+     * @param retentionMode   what to do with expired partitions
+     */
+    @Autowired
+    public AuditLogPartitionServiceImpl(JdbcTemplate jdbcTemplate,
+                                        @Value("${ems.audit.partitioning.enabled:true}") boolean enabled,
+                                        @Value("${ems.audit.partitioning.months-ahead:3}") int monthsAhead,
+                                        @Value("${ems.audit.retention.months:12}") int retentionMonths,
+                                        @Value("${ems.audit.retention.mode:drop}") AuditLogRetentionMode retentionMode) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.retentionMode = retentionMode;
+    }
+
+    /**
+     * Partitions the table as soon as the application is ready, instead of waiting for the first scheduled run.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread.ofVirtual().name("ems-audit-log-partitions").start(this::maintainPartitions);
+    }
+
+    /**
+     * Creates upcoming partitions and removes expired ones.
+     */
+    @Override
+    @Scheduled(cron = "${ems.audit.partitioning.cron:0 15 0 * * *}")
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!MySqlLockUtils.isMySql(connection)) {
+                    log.info("Audit log partitioning is only supported on MySQL, not on {}",
+                            connection.getMetaData().getDatabaseProductName());
+                    return null;
+                }
+                if (!MySqlLockUtils.tryLock(connection, LOCK_NAME)) {
+                    log.debug("Audit log partitions are maintained by another node");
+                    return null;
+                }
+                try {
+                    maintainPartitions(connection, YearMonth.now());
+                } finally {
+                    MySqlLockUtils.unlock(connection, LOCK_NAME);
+                }
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            log.error("Failed to maintain audit log partitions", ex);
+        }
+    }
+
+    private void maintainPartitions(Connection connection, YearMonth currentMonth) throws SQLException {
+        List<String> partitions = listPartitions(connection);
+        if (partitions.isEmpty()) {
+            partitionTable(connection, currentMonth);
+            partitions = listPartitions(connection);
+        }
+
+        // Split the empty catch-all partition to keep the coming months ready
+        for (YearMonth month : missingMonths(partitions, currentMonth, monthsAhead)) {
+            execute(connection, "ALTER TABLE " + Constants.AUDIT_LOG_TABLE + " REORGANIZE PARTITION " + CATCH_ALL_PARTITION
+                    + " INTO (" + partitionDefinition(month) + ", " + catchAllDefinition() + ")");
+        }
+
+        // Remove whole partitions whose rows are all older than the retention period
+        for (String partition : expiredPartitions(partitions, currentMonth, retentionMonths)) {
+            expire(connection, partition);
+        }
+    }
+
+    /**
+     * @return the months from the current one to {@code monthsAhead} months later that have no partition yet
+     */
+    static List<YearMonth> missingMonths(List<String> partitions, YearMonth currentMonth, int monthsAhead) {
+        List<YearMonth> missing = new ArrayList<>();
+        for (YearMonth month = currentMonth; !month.isAfter(currentMonth.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            if (!partitions.contains(partitionName(month))) {
+                missing.add(month);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * @return the monthly partitions older than the {@code retentionMonths} months before the current one
+     */
+    static List<String> expiredPartitions(List<String> partitions, YearMonth currentMonth, int retentionMonths) {
+        YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+        List<String> expired = new ArrayList<>();
+        for (String partition : partitions) {
+            YearMonth month = partitionMonth(partition);
+            if (month != null && month.isBefore(oldestKept)) {
+                expired.add(partition);
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * @return the month of a partition created by this service, or null for the catch-all partition and
+     *         partitions named otherwise, which are never expired
+     */
+    static YearMonth partitionMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX) || CATCH_ALL_PARTITION.equals(partition)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts the table to monthly partitions, from the month of the oldest row to the months ahead.
+     */
+    private void partitionTable(Connection connection, YearMonth currentMonth) throws SQLException {
+        YearMonth firstMonth = currentMonth;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT MIN(`timestamp`) FROM " + Constants.AUDIT_LOG_TABLE)) {
+            Timestamp oldest = resultSet.next() ? resultSet.getTimestamp(1) : null;
+            if (oldest != null && YearMonth.from(oldest.toLocalDateTime()).isBefore(firstMonth)) {
+                firstMonth = YearMonth.from(oldest.toLocalDateTime());
+            }
+        }
+
+        StringJoiner definitions = new StringJoiner(", ", "(", ")");
+        for (YearMonth month = firstMonth; !month.isAfter(currentMonth.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            definitions.add(partitionDefinition(month));
+        }
+        definitions.add(catchAllDefinition());
+
+        // One statement, so that the table is copied once for both the new key and the partitioning
+        execute(connection, "ALTER TABLE " + Constants.AUDIT_LOG_TABLE + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, `timestamp`) "
+                + "PARTITION BY RANGE COLUMNS(`timestamp`) " + definitions);
+    }
+
+    private void expire(Connection connection, String partition) throws SQLException {
+        if (retentionMode == AuditLogRetentionMode.ARCHIVE && !archive(connection, partition)) {
+            return;
+        }
+        execute(connection, "ALTER TABLE " + Constants.AUDIT_LOG_TABLE + " DROP PARTITION " + partition);
+    }
+
+    /**
+     * Swaps the partition with an empty table of the same shape, which then holds its rows.
+     * <p>
+     * The archive table may be left over from a run that failed after the exchange: it then already holds
+     * the rows of the partition and the partition is empty. The exchange is only done into an empty archive
+     * table, so archived rows are never swapped back.
+     * </p>
+     *
+     * @return whether the partition can be dropped, false if both it and its archive table hold rows
+     */
+    private boolean archive(Connection connection, String partition) throws SQLException {
+        String archive = Constants.AUDIT_LOG_TABLE + "_archive_" + partition;
+        execute(connection, "CREATE TABLE IF NOT EXISTS " + archive + " LIKE " + Constants.AUDIT_LOG_TABLE);
+        if (isPartitioned(connection, archive)) {
+            execute(connection, "ALTER TABLE " + archive + " REMOVE PARTITIONING");
+        }
+        if (!hasRows(connection, archive)) {
+            execute(connection, "ALTER TABLE " + Constants.AUDIT_LOG_TABLE + " EXCHANGE PARTITION " + partition + " WITH TABLE " + archive);
+            return true;
+        }
+        if (hasRows(connection, Constants.AUDIT_LOG_TABLE + " PARTITION (" + partition + ")")) {
+            log.error("Not expiring audit log partition {}: both it and its archive table {} hold rows", partition, archive);
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isPartitioned(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT 1 FROM information_schema.PARTITIONS "
+                     + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + table + "' AND PARTITION_NAME IS NOT NULL LIMIT 1")) {
+            return resultSet.next();
+        }
+    }
+
+    private static boolean hasRows(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT 1 FROM " + table + " LIMIT 1")) {
+            return resultSet.next();
+        }
+    }
+
+    private static List<String> listPartitions(Connection connection) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                     + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + Constants.AUDIT_LOG_TABLE + "' "
+                     + "AND PARTITION_NAME IS NOT NULL ORDER BY PARTITION_ORDINAL_POSITION")) {
+            while (resultSet.next()) {
+                partitions.add(resultSet.getString(1));
+            }
+        }
+        return partitions;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static String partitionDefinition(YearMonth month) {
+        LocalDate end = month.plusMonths(1).atDay(1);
+        return "PARTITION " + partitionName(month) + " VALUES LESS THAN ('" + end + " 00:00:00')";
+    }
+
+    private static String catchAllDefinition() {
+        return "PARTITION " + CATCH_ALL_PARTITION + " VALUES LESS THAN (MAXVALUE)";
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        log.info("Maintaining audit log partitions: {}", sql);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -1,14 +1,37 @@
 package com.info.ems.services.impl;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.info.ems.constants.Constants;
+import com.info.ems.dtos.response.AuditLogDailyCountResponseDto;
+import com.info.ems.dtos.response.AuditLogPageResponseDto;
+import com.info.ems.dtos.response.AuditLogResponseDto;
+import com.info.ems.exceptions.InvalidRequestParameterException;
 import com.info.ems.kafka.events.AuditLogEvent;
 import com.info.ems.mapper.AuditLogMapper;
 import com.info.ems.models.AuditLog;
+import com.info.ems.models.AuditLogDailyRollup;
+import com.info.ems.repositories.AuditLogDailyRollupRepository;
 import com.info.ems.repositories.AuditLogRepository;
+import com.info.ems.repositories.AuditLogSpecifications;
 import com.info.ems.services.AuditLogService;
 
+import jakarta.persistence.EntityManager;
+
 /**
  * Service implementation for managing audit logs. This service provides functionality
  * to create and persist audit log entries in the database.
@@ -16,20 +39,31 @@ import com.info.ems.services.AuditLogService;
 @Service
 public class AuditLogServiceImpl implements AuditLogService {
 
+    // Separates the timestamp and the id of the last entry in a page cursor
+    private static final String CURSOR_SEPARATOR = "_";
+
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogDailyRollupRepository auditLogDailyRollupRepository;
     private final AuditLogMapper auditLogMapper;
+    private final EntityManager entityManager;
 
     /**
      * Constructor for injecting dependencies.
      *
-     * @param auditLogRepository the repository for audit log persistence
-     * @param auditLogMapper     the mapper for converting events to entity objects
+     * @param auditLogRepository            the repository for audit log persistence
+     * @param auditLogDailyRollupRepository the repository for the daily audit log counts
+     * @param auditLogMapper                the mapper for converting events to entity objects
+     * @param entityManager                 the entity manager used to size the JDBC batch of bulk inserts
      */
     @Autowired
-    public AuditLogServiceImpl(AuditLogRepository auditLogRepository, AuditLogMapper auditLogMapper) {
+    public AuditLogServiceImpl(AuditLogRepository auditLogRepository,
+                               AuditLogDailyRollupRepository auditLogDailyRollupRepository,
+                               AuditLogMapper auditLogMapper, EntityManager entityManager) {
         super(); // Although not necessary in this context, this can be omitted.
         this.auditLogRepository = auditLogRepository;
+        this.auditLogDailyRollupRepository = auditLogDailyRollupRepository;
         this.auditLogMapper = auditLogMapper;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -39,11 +73,129 @@ public class AuditLogServiceImpl implements AuditLogService {
      * @return the persisted AuditLog entity
      */
     @Override
+    @Transactional
     public AuditLog createAuditLog(AuditLogEvent event) {
         // Convert the incoming audit log event to an entity using the mapper
         AuditLog auditLog = auditLogMapper.toEntity(event);
 
         // Save the entity in the database and return the saved entity
-        return auditLogRepository.save(auditLog);
+        AuditLog savedAuditLog = auditLogRepository.save(auditLog);
+        // Counted from the entity handed to save, which holds the same day and operation
+        updateDailyRollups(List.of(auditLog));
+        return savedAuditLog;
+    }
+
+    /**
+     * Creates and saves audit logs for a batch of events in a single transaction.
+     * <p>
+     * The JDBC batch size of the session is raised to the size of the batch so that all rows are sent
+     * as one batch, which the MySQL driver rewrites into a single multi-row INSERT.
+     * </p>
+     *
+     * @param events the audit log events to persist
+     * @return the persisted AuditLog entities, in the order of the events
+     */
+    @Override
+    @Transactional
+    public List<AuditLog> createAuditLogs(List<AuditLogEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        entityManager.unwrap(Session.class).setJdbcBatchSize(events.size());
+        List<AuditLog> savedAuditLogs = auditLogRepository.saveAllAndFlush(auditLogMapper.toEntities(events));
+        updateDailyRollups(savedAuditLogs);
+        return savedAuditLogs;
+    }
+
+    /**
+     * Adds the given entries to the daily rollup counts, with one upsert per day and operation
+     * instead of one per entry.
+     */
+    private void updateDailyRollups(List<AuditLog> auditLogs) {
+        // Sorted so that concurrent batches lock the rollup rows in the same order
+        Map<AuditLogDailyRollup.Key, Long> counts = new TreeMap<>(Comparator
+                .comparing(AuditLogDailyRollup.Key::getDay)
+                .thenComparing(AuditLogDailyRollup.Key::getOperation));
+        for (AuditLog auditLog : auditLogs) {
+            counts.merge(new AuditLogDailyRollup.Key(auditLog.getTimestamp().toLocalDate(), auditLog.getOperation()), 1L, Long::sum);
+        }
+        counts.forEach((key, count) -> auditLogDailyRollupRepository.increment(key.getDay(), key.getOperation(), count));
+    }
+
+    /**
+     * Returns the number of audit log entries per day and operation, read from the daily rollups only.
+     *
+     * @param from      the first day, inclusive
+     * @param to        the last day, exclusive
+     * @param operation the operation to report on, or null for all operations
+     * @return the daily counts ordered by day and operation
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuditLogDailyCountResponseDto> getDailyCounts(LocalDate from, LocalDate to, String operation) {
+        return auditLogDailyRollupRepository
+                .findRange(from, to, operation == null ? null : operation.toUpperCase(Locale.ROOT))
+                .stream()
+                .map(rollup -> AuditLogDailyCountResponseDto.builder()
+                        .day(rollup.getId().getDay())
+                        .operation(rollup.getId().getOperation())
+                        .count(rollup.getEventCount())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Finds audit logs matching the given filters, newest first, using keyset pagination on
+     * (timestamp, id) so that every page is an index range scan whatever the size of the table.
+     *
+     * @param entityId  only entries of this employee, if not null
+     * @param operation only entries of this operation, if not null
+     * @param from      only entries at or after this time, if not null
+     * @param to        only entries before this time, if not null
+     * @param cursor    the {@code nextCursor} of the previous page, or null for the first page
+     * @param limit     the maximum number of entries to return
+     * @return one page of audit logs and the cursor of the next page
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AuditLogPageResponseDto searchAuditLogs(Long entityId, String operation, LocalDateTime from,
+                                                   LocalDateTime to, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, Constants.MAX_PAGE_SIZE));
+        LocalDateTime cursorTimestamp = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+            try {
+                cursorTimestamp = LocalDateTime.parse(cursor.substring(0, separator));
+                cursorId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (DateTimeParseException | IndexOutOfBoundsException | NumberFormatException ex) {
+                throw new InvalidRequestParameterException("Invalid cursor, pass the nextCursor of the previous page.");
+            }
+        }
+
+        Specification<AuditLog> specification = Specification
+                .where(AuditLogSpecifications.hasEntityId(entityId))
+                .and(AuditLogSpecifications.hasOperation(operation == null ? null : operation.toUpperCase(Locale.ROOT)))
+                .and(AuditLogSpecifications.from(from))
+                .and(AuditLogSpecifications.to(to))
+                .and(AuditLogSpecifications.before(cursorTimestamp, cursorId));
+
+        // Fetch one extra entry to know whether another page follows
+        List<AuditLog> auditLogs = auditLogRepository.findBy(specification, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "timestamp", "id"))
+                .limit(pageSize + 1)
+                .all());
+        boolean hasMore = auditLogs.size() > pageSize;
+        if (hasMore) {
+            auditLogs = auditLogs.subList(0, pageSize);
+        }
+
+        List<AuditLogResponseDto> page = auditLogs.stream().map(auditLogMapper::toDto).toList();
+        AuditLog last = auditLogs.isEmpty() ? null : auditLogs.get(auditLogs.size() - 1);
+        return AuditLogPageResponseDto.builder()
+                .auditLogs(page)
+                .nextCursor(last == null ? cursor : last.getTimestamp() + CURSOR_SEPARATOR + last.getId())
+                .hasMore(hasMore)
+                .build();
     }
 }
@@ -0,0 +1,129 @@
+package com.info.ems.services.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.info.ems.constants.Constants;
+import com.info.ems.constants.ExportFormat;
+import com.info.ems.mapper.EmployeeMapper;
+import com.info.ems.models.Address;
+import com.info.ems.models.Employee;
+import com.info.ems.repositories.EmployeeRepository;
+import com.info.ems.services.EmployeeExportService;
+import com.info.ems.utils.CsvUtils;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service implementation that streams the whole employee table to an output stream.
+ * <p>
+ * Employees are read through a forward-only database cursor, written out one at a time and detached
+ * from the persistence context right away, so memory use does not depend on the number of rows.
+ * </p>
+ */
+@Slf4j
+@Service
+public class EmployeeExportServiceImpl implements EmployeeExportService {
+
+    private static final String[] CSV_HEADER = {
+            "id", "name", "email", "phone", "hireDate", "addressId", "street", "city", "state", "postalCode"};
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter ndjsonWriter;
+
+    @Autowired
+    public EmployeeExportServiceImpl(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                                     EntityManager entityManager, ObjectMapper objectMapper) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.entityManager = entityManager;
+        // Leave flushing to the export loop instead of flushing after every row
+        this.ndjsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Write every employee with its addresses to the given stream.
+     * @param format the output format.
+     * @param outputStream the stream to write to; it is flushed but not closed.
+     * @return the number of employees written.
+     * @throws IOException if writing to the stream fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportEmployees(ExportFormat format, OutputStream outputStream) throws IOException {
+        log.trace("Inside exportEmployees method, format: {}", format);
+        try (Stream<Employee> employees = employeeRepository.streamAllWithAddresses()) {
+            long exported = switch (format) {
+                case NDJSON -> writeNdjson(employees.iterator(), outputStream);
+                case CSV -> writeCsv(employees.iterator(), outputStream);
+            };
+            log.info("Exported {} employees as {}", exported, format);
+            return exported;
+        }
+    }
+
+    private long writeNdjson(Iterator<Employee> employees, OutputStream outputStream) throws IOException {
+        long count = 0;
+        JsonGenerator generator = ndjsonWriter.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+        try (generator) {
+            while (employees.hasNext()) {
+                Employee employee = employees.next();
+                ndjsonWriter.writeValue(generator, employeeMapper.toDto(employee));
+                entityManager.detach(employee);
+                if (++count % Constants.EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<Employee> employees, OutputStream outputStream) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        CsvUtils.writeRecord(writer, (Object[]) CSV_HEADER);
+        while (employees.hasNext()) {
+            Employee employee = employees.next();
+            if (employee.getAddresses() == null || employee.getAddresses().isEmpty()) {
+                CsvUtils.writeRecord(writer, employee.getId(), employee.getName(), employee.getEmail(),
+                        employee.getPhone(), employee.getHireDate(), null, null, null, null, null);
+            } else {
+                // One record per address, repeating the employee columns
+                for (Address address : employee.getAddresses()) {
+                    CsvUtils.writeRecord(writer, employee.getId(), employee.getName(), employee.getEmail(),
+                            employee.getPhone(), employee.getHireDate(), address.getId(), address.getStreet(),
+                            address.getCity(), address.getState(), address.getPostalCode());
+                }
+            }
+            entityManager.detach(employee);
+            if (++count % Constants.EXPORT_FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+}
@@ -0,0 +1,409 @@
+package com.info.ems.services.impl;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.info.ems.dtos.request.CreateAddress;
+import com.info.ems.dtos.request.CreateEmployee;
+import com.info.ems.dtos.response.BulkEmployeeResponseDto;
+import com.info.ems.dtos.response.ImportSummaryResponseDto;
+import com.info.ems.exceptions.InvalidRequestParameterException;
+import com.info.ems.services.EmployeeImportService;
+import com.info.ems.services.EmployeeService;
+import com.info.ems.utils.CsvFormatException;
+import com.info.ems.utils.CsvUtils;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service implementation that imports employees from an arbitrarily large CSV stream.
+ * <p>
+ * The request thread reads and validates one record at a time and hands valid rows to a fixed set of
+ * partition workers (virtual threads) through bounded queues, choosing the partition by email hash so
+ * that rows sharing an email are always handled by the same worker. Each worker commits its rows in
+ * fixed-size chunks through {@link EmployeeService#createEmployees}, one transaction per chunk.
+ * Rejected rows are written to a separate CSV file. Memory use is bounded by the queue capacity and
+ * chunk size, not by the size of the input.
+ * </p>
+ * <p>
+ * A worker that fails with anything but a failed chunk (which only rejects the rows of that chunk) keeps
+ * draining its queue so that the reader never blocks on it; the reader then stops and the import fails,
+ * leaving the chunks already committed in place.
+ * </p>
+ * <p>
+ * A record with an unterminated quoted field or longer than {@code ems.import.max-record-chars} is rejected
+ * and stops the reading, since the records after it cannot be told apart; the rows read before it are
+ * still imported.
+ * </p>
+ * <p>
+ * Expected layout: a header row, then {@code name,email,phone} followed by one or more
+ * {@code street,city,state,postalCode} groups per employee.
+ * </p>
+ */
+@Slf4j
+@Service
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    private static final int EMPLOYEE_COLUMNS = 3;
+    private static final int ADDRESS_COLUMNS = 4;
+
+    // Marks the end of the input on every partition queue
+    private static final ImportRow END_OF_INPUT = new ImportRow(-1, List.of(), null);
+
+    private final EmployeeService employeeService;
+    private final Validator validator;
+    private final int workers;
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final long progressInterval;
+    private final int maxRecordChars;
+    private final Path rejectedRowsDirectory;
+
+    @Autowired
+    public EmployeeImportServiceImpl(EmployeeService employeeService, Validator validator,
+                                     @Value("${ems.import.workers:4}") int workers,
+                                     @Value("${ems.import.chunk-size:500}") int chunkSize,
+                                     @Value("${ems.import.queue-capacity:1000}") int queueCapacity,
+                                     @Value("${ems.import.progress-interval:100000}") long progressInterval,
+                                     @Value("${ems.import.max-record-chars:65536}") int maxRecordChars,
+                                     @Value("${ems.import.rejected-rows-dir:${java.io.tmpdir}/ems-import}") Path rejectedRowsDirectory) {
+        this.employeeService = employeeService;
+        this.validator = validator;
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
+        this.progressInterval = progressInterval;
+        this.maxRecordChars = maxRecordChars;
+        this.rejectedRowsDirectory = rejectedRowsDirectory;
+    }
+
+    /**
+     * Import every employee contained in the CSV stream.
+     * @param csv the CSV content; it is read incrementally and not closed.
+     * @return counts, throughput and the location of the rejected rows file (null when nothing was rejected).
+     * @throws IOException if reading the input or writing the rejected rows file fails.
+     * @throws InvalidRequestParameterException if the header row is malformed.
+     * @throws IllegalStateException if a worker failed unexpectedly; chunks committed before stay imported.
+     */
+    @Override
+    public ImportSummaryResponseDto importEmployees(InputStream csv) throws IOException {
+        log.trace("Inside importEmployees method");
+        long start = System.nanoTime();
+        ImportProgress progress = new ImportProgress(start);
+
+        Files.createDirectories(rejectedRowsDirectory);
+        Path rejectedRowsFile = rejectedRowsDirectory.resolve(
+                "rejected-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS")) + ".csv");
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8), 64 * 1024);
+        List<String> header;
+        try {
+            header = CsvUtils.readRecord(reader, maxRecordChars);
+        } catch (CsvFormatException ex) {
+            throw new InvalidRequestParameterException("Invalid CSV header: " + ex.getMessage() + ".");
+        }
+        try (RejectedRowWriter rejectedRows = new RejectedRowWriter(rejectedRowsFile, header)) {
+            List<BlockingQueue<ImportRow>> partitions = new ArrayList<>(workers);
+            List<Thread> workerThreads = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                BlockingQueue<ImportRow> partition = new ArrayBlockingQueue<>(queueCapacity);
+                partitions.add(partition);
+                workerThreads.add(Thread.ofVirtual()
+                        .name("ems-import-" + i)
+                        .start(() -> drainPartition(partition, rejectedRows, progress)));
+            }
+            try {
+                if (header != null) {
+                    readRows(reader, partitions, rejectedRows, progress);
+                }
+            } finally {
+                for (BlockingQueue<ImportRow> partition : partitions) {
+                    putUninterruptibly(partition, END_OF_INPUT);
+                }
+                for (Thread workerThread : workerThreads) {
+                    joinUninterruptibly(workerThread);
+                }
+            }
+        }
+        if (progress.workerFailure != null) {
+            throw new IllegalStateException("Import aborted after " + progress.imported.get()
+                    + " imported rows, a worker failed", progress.workerFailure);
+        }
+
+        if (progress.rejected.get() == 0) {
+            Files.deleteIfExists(rejectedRowsFile);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        ImportSummaryResponseDto summary = ImportSummaryResponseDto.builder()
+                .rowsRead(progress.read.get())
+                .imported(progress.imported.get())
+                .rejected(progress.rejected.get())
+                .rejectedRowsFile(progress.rejected.get() == 0 ? null : rejectedRowsFile.toString())
+                .stoppedAtRow(progress.stoppedAtRow)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(progress.rowsPerSecond())
+                .build();
+        log.info("Import finished: {}", summary);
+        return summary;
+    }
+
+    /**
+     * Read, validate and partition every data row. Blocks when a partition queue is full, which
+     * throttles reading to the speed of the workers.
+     */
+    private void readRows(BufferedReader reader, List<BlockingQueue<ImportRow>> partitions,
+                          RejectedRowWriter rejectedRows, ImportProgress progress) throws IOException {
+        long rowNumber = 1;
+        while (progress.workerFailure == null) {
+            List<String> fields;
+            try {
+                fields = CsvUtils.readRecord(reader, maxRecordChars);
+            } catch (CsvFormatException ex) {
+                rowNumber++;
+                progress.read.incrementAndGet();
+                rejectedRows.write(rowNumber, ex.getMessage() + ", the rest of the input was not read", ex.getFields());
+                progress.rejected.incrementAndGet();
+                progress.stoppedAtRow = rowNumber;
+                log.warn("Import stopped at row {}: {}", rowNumber, ex.getMessage());
+                return;
+            }
+            if (fields == null) {
+                return;
+            }
+            rowNumber++;
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            long read = progress.read.incrementAndGet();
+            String error = validate(fields);
+            if (error != null) {
+                rejectedRows.write(rowNumber, error, fields);
+                progress.rejected.incrementAndGet();
+            } else {
+                CreateEmployee employee = toCreateEmployee(fields);
+                int partition = Math.floorMod(employee.getEmail().hashCode(), partitions.size());
+                putUninterruptibly(partitions.get(partition), new ImportRow(rowNumber, fields, employee));
+            }
+            if (read % progressInterval == 0) {
+                log.info("Import progress: {} rows read, {} imported, {} rejected, {} rows/s",
+                        read, progress.imported.get(), progress.rejected.get(), (long) progress.rowsPerSecond());
+            }
+        }
+    }
+
+    /**
+     * Worker loop: collect rows of one partition into chunks and commit each chunk in its own transaction.
+     * After an unexpected failure, record it for the reader and discard the remaining rows of the partition.
+     */
+    private void drainPartition(BlockingQueue<ImportRow> partition, RejectedRowWriter rejectedRows,
+                                ImportProgress progress) {
+        try {
+            importPartition(partition, rejectedRows, progress);
+        } catch (Throwable ex) {
+            progress.workerFailure = ex;
+            log.error("Import worker {} failed, aborting the import", Thread.currentThread().getName(), ex);
+            discardPartition(partition);
+        }
+    }
+
+    private void importPartition(BlockingQueue<ImportRow> partition, RejectedRowWriter rejectedRows,
+                                 ImportProgress progress) {
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        while (true) {
+            ImportRow row;
+            try {
+                row = partition.take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (row == END_OF_INPUT) {
+                break;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                commitChunk(chunk, rejectedRows, progress);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            commitChunk(chunk, rejectedRows, progress);
+        }
+    }
+
+    private static void discardPartition(BlockingQueue<ImportRow> partition) {
+        try {
+            while (partition.take() != END_OF_INPUT) {
+                // The reader stops at its next row, until then its rows are dropped
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void commitChunk(List<ImportRow> chunk, RejectedRowWriter rejectedRows, ImportProgress progress) {
+        try {
+            List<BulkEmployeeResponseDto> results =
+                    employeeService.createEmployees(chunk.stream().map(ImportRow::employee).toList());
+            for (BulkEmployeeResponseDto result : results) {
+                if (result.getStatus() == HttpStatus.CREATED) {
+                    progress.imported.incrementAndGet();
+                } else {
+                    ImportRow row = chunk.get(result.getIndex());
+                    rejectedRows.write(row.rowNumber(), result.getMessage(), row.fields());
+                    progress.rejected.incrementAndGet();
+                }
+            }
+        } catch (RuntimeException ex) {
+            // The chunk transaction was rolled back, so none of its rows were imported
+            log.error("Failed to import chunk of {} rows starting at row {}", chunk.size(), chunk.get(0).rowNumber(), ex);
+            for (ImportRow row : chunk) {
+                rejectedRows.write(row.rowNumber(), ex.getMessage(), row.fields());
+            }
+            progress.rejected.addAndGet(chunk.size());
+        }
+        chunk.clear();
+    }
+
+    /**
+     * Check the column layout and apply the same constraints as the JSON create endpoint.
+     * @return a description of every violation, or null when the row is valid.
+     */
+    private String validate(List<String> fields) {
+        if (fields.size() < EMPLOYEE_COLUMNS + ADDRESS_COLUMNS
+                || (fields.size() - EMPLOYEE_COLUMNS) % ADDRESS_COLUMNS != 0) {
+            return "expected name,email,phone followed by street,city,state,postalCode groups but found "
+                    + fields.size() + " columns";
+        }
+        Set<ConstraintViolation<CreateEmployee>> violations = validator.validate(toCreateEmployee(fields));
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private CreateEmployee toCreateEmployee(List<String> fields) {
+        List<CreateAddress> addresses = new ArrayList<>((fields.size() - EMPLOYEE_COLUMNS) / ADDRESS_COLUMNS);
+        for (int i = EMPLOYEE_COLUMNS; i + ADDRESS_COLUMNS <= fields.size(); i += ADDRESS_COLUMNS) {
+            addresses.add(new CreateAddress(fields.get(i), fields.get(i + 1), fields.get(i + 2), fields.get(i + 3)));
+        }
+        return new CreateEmployee(fields.get(0), fields.get(1), fields.get(2), addresses);
+    }
+
+    private static <T> void putUninterruptibly(BlockingQueue<T> queue, T element) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(element);
+                break;
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void joinUninterruptibly(Thread thread) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record ImportRow(long rowNumber, List<String> fields, CreateEmployee employee) {
+    }
+
+    private static final class ImportProgress {
+        private final long startNanos;
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        // An unexpected failure of a worker; the reader stops once it is set
+        private volatile Throwable workerFailure;
+
+        // Row of the malformed record the reader stopped at, set by the reader only
+        private Long stoppedAtRow;
+
+        private ImportProgress(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        private double rowsPerSecond() {
+            long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+            return (imported.get() + rejected.get()) * 1_000_000_000d / elapsedNanos;
+        }
+    }
+
+    /**
+     * Thread-safe writer for rejected rows: the row number, the reason and the original fields.
+     */
+    private static final class RejectedRowWriter implements Closeable {
+        private final Writer writer;
+
+        private RejectedRowWriter(Path file, List<String> header) throws IOException {
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            List<String> columns = new ArrayList<>(List.of("row", "error"));
+            if (header != null) {
+                columns.addAll(header);
+            }
+            CsvUtils.writeRecord(writer, columns.toArray());
+        }
+
+        private synchronized void write(long rowNumber, String error, List<String> fields) {
+            Object[] record = new Object[fields.size() + 2];
+            record[0] = rowNumber;
+            record[1] = error;
+            for (int i = 0; i < fields.size(); i++) {
+                record[i + 2] = fields.get(i);
+            }
+            try {
+                CsvUtils.writeRecord(writer, record);
+            } catch (IOException ex) {
+                // Never let a reporting failure stop a worker, otherwise the reader would block on its queue
+                log.error("Failed to write rejected row {}", rowNumber, ex);
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            writer.close();
+        }
+    }
+}
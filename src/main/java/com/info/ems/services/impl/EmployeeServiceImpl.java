@@ -2,29 +2,53 @@ package com.info.ems.services.impl;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.info.ems.repositories.AddressRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.info.ems.cache.EmployeeCacheInvalidator;
+import com.info.ems.cache.EmployeeEmailFilter;
 import com.info.ems.constants.AuditLogConstants;
 import com.info.ems.constants.Constants;
+import com.info.ems.dtos.request.CreateAddress;
 import com.info.ems.dtos.request.CreateEmployee;
+import com.info.ems.dtos.request.PatchEmployee;
+import com.info.ems.dtos.response.BulkEmployeeResponseDto;
+import com.info.ems.dtos.response.EmployeePageResponseDto;
 import com.info.ems.dtos.response.EmployeeResponseDto;
 import com.info.ems.exceptions.EmployeeAlreadyExistsException;
 import com.info.ems.exceptions.EmployeeNotFoundException;
 import com.info.ems.kafka.events.AuditLogEvent;
-import com.info.ems.kafka.producers.AuditLogProducerService;
+import com.info.ems.kafka.events.EmployeeSnapshot;
+import com.info.ems.kafka.events.FieldChange;
 import com.info.ems.mapper.AddressMapper;
 import com.info.ems.mapper.EmployeeMapper;
 import com.info.ems.models.Address;
 import com.info.ems.models.Employee;
 import com.info.ems.repositories.EmployeeRepository;
+import com.info.ems.repositories.projections.EmployeeAddressRow;
+import com.info.ems.services.AuditLogOutboxService;
 import com.info.ems.services.EmployeeService;
+import com.info.ems.utils.AuditDiffUtils;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 @Slf4j
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
@@ -33,17 +57,28 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final EmployeeMapper employeeMapper;
     private final AddressMapper addressMapper;
     private final AddressRepository addressRepository;
-    private final AuditLogProducerService auditLogKafkaProducer;
+    private final AuditLogOutboxService auditLogOutboxService;
+    private final EntityManager entityManager;
+    private final EmployeeCacheInvalidator employeeCacheInvalidator;
+    private final EmployeeEmailFilter employeeEmailFilter;
+    private final int jdbcBatchSize;
 
     @Autowired
     public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
-                               AddressMapper addressMapper, AddressRepository addressRepository, AuditLogProducerService auditLogKafkaProducer) {
+                               AddressMapper addressMapper, AddressRepository addressRepository, AuditLogOutboxService auditLogOutboxService,
+                               EntityManager entityManager, EmployeeCacheInvalidator employeeCacheInvalidator,
+                               EmployeeEmailFilter employeeEmailFilter,
+                               @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int jdbcBatchSize) {
         super();
         this.employeeRepository = employeeRepository;
         this.employeeMapper = employeeMapper;
         this.addressMapper = addressMapper;
       this.addressRepository = addressRepository;
-      this.auditLogKafkaProducer = auditLogKafkaProducer;
+      this.auditLogOutboxService = auditLogOutboxService;
+      this.entityManager = entityManager;
+      this.employeeCacheInvalidator = employeeCacheInvalidator;
+      this.employeeEmailFilter = employeeEmailFilter;
+      this.jdbcBatchSize = jdbcBatchSize;
     }
 
     /**
@@ -52,14 +87,165 @@ public class EmployeeServiceImpl implements EmployeeService {
      * @return the created employee's details as a DTO.
      */
     @Override
+    @Timed(value = Constants.EMPLOYEE_SERVICE_TIMER, extraTags = {Constants.OPERATION, "create"}, histogram = true)
+    @Transactional
     public EmployeeResponseDto createEmployee(CreateEmployee request) {
         log.trace("Inside createEmployee method");
         // Check if an employee with the given email already exists
-        if (employeeRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new EmployeeAlreadyExistsException("Employee with email " + request.getEmail() + " already exists.");
+        checkEmailAvailable(request.getEmail());
+
+        // Map CreateEmployee DTO to Employee entity along with its addresses
+        Employee employee = buildEmployee(request);
+        // Save the employee entity
+        Employee savedEmployee = saveAndFlush(employee);
+        employeeEmailFilter.add(savedEmployee.getEmail());
+
+        log.trace("Saved employee {}", savedEmployee.getId());
+        // Record the audit log event in the outbox, committed together with the employee
+        auditLogOutboxService.record(
+                AuditLogEvent.builder()
+                        .operation(AuditLogConstants.CREATE)
+                        .timestamp(LocalDateTime.now())
+                        .entityId(savedEmployee.getId())
+                        .details(employeeMapper.toSnapshot(savedEmployee))
+                        .build());
+
+        // Return the created employee's details as a DTO
+        return employeeMapper.toDto(savedEmployee);
+    }
+
+    /**
+     * Create many employees in one call.
+     * <p>
+     * All emails are checked with a single query, new employees and their addresses are inserted
+     * with JDBC batching (flushing every {@code hibernate.jdbc.batch_size} employees) and the audit
+     * events are written to the outbox in the same transaction. Items whose email already exists, or is repeated
+     * within the request, are reported as conflicts instead of failing the whole call.
+     * </p>
+     * @param requests the employee creation requests.
+     * @return one result per request, in request order.
+     */
+    @Override
+    @Timed(value = Constants.EMPLOYEE_SERVICE_TIMER, extraTags = {Constants.OPERATION, "create-bulk"}, histogram = true)
+    @Transactional
+    public List<BulkEmployeeResponseDto> createEmployees(List<CreateEmployee> requests) {
+        log.trace("Inside createEmployees method, size: {}", requests.size());
+        // Resolve every already taken email with one query instead of one lookup per item. The email filter
+        // is not consulted: it can miss emails taken on other nodes, and one such email would fail the whole
+        // batch on the unique constraint instead of being reported as a conflict
+        List<String> emails = requests.stream()
+                .map(CreateEmployee::getEmail)
+                .toList();
+        Set<String> takenEmails = emails.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(employeeRepository.findExistingEmails(emails));
+
+        BulkEmployeeResponseDto[] results = new BulkEmployeeResponseDto[requests.size()];
+        List<Integer> pendingIndexes = new ArrayList<>(jdbcBatchSize);
+        List<Employee> pending = new ArrayList<>(jdbcBatchSize);
+        List<AuditLogEvent> auditLogEvents = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateEmployee request = requests.get(i);
+            // add() also guards against the same email appearing twice in one request
+            if (!takenEmails.add(request.getEmail())) {
+                results[i] = BulkEmployeeResponseDto.builder()
+                        .index(i)
+                        .email(request.getEmail())
+                        .status(HttpStatus.CONFLICT)
+                        .message("Employee with email " + request.getEmail() + " already exists.")
+                        .build();
+                continue;
+            }
+            pendingIndexes.add(i);
+            pending.add(buildEmployee(request));
+            if (pending.size() == jdbcBatchSize) {
+                saveBatch(pending, pendingIndexes, results, auditLogEvents);
+            }
+        }
+        if (!pending.isEmpty()) {
+            saveBatch(pending, pendingIndexes, results, auditLogEvents);
+        }
+
+        // Record all audit log events in the outbox, committed together with the employees
+        auditLogOutboxService.recordAll(auditLogEvents);
+
+        return List.of(results);
+    }
+
+    /**
+     * Persist one JDBC batch worth of employees, record their results and detach them so the
+     * persistence context does not grow with the size of the bulk request.
+     */
+    private void saveBatch(List<Employee> pending, List<Integer> pendingIndexes,
+                           BulkEmployeeResponseDto[] results, List<AuditLogEvent> auditLogEvents) {
+        List<Employee> savedEmployees;
+        try {
+            savedEmployees = employeeRepository.saveAllAndFlush(pending);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateIntegrityViolation(ex, "One or more employees of this batch were created concurrently.");
         }
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < savedEmployees.size(); i++) {
+            Employee savedEmployee = savedEmployees.get(i);
+            employeeEmailFilter.add(savedEmployee.getEmail());
+            int index = pendingIndexes.get(i);
+            results[index] = BulkEmployeeResponseDto.builder()
+                    .index(index)
+                    .email(savedEmployee.getEmail())
+                    .status(HttpStatus.CREATED)
+                    .message("Employee created successfully")
+                    .employee(employeeMapper.toDto(savedEmployee))
+                    .build();
+            auditLogEvents.add(AuditLogEvent.builder()
+                    .operation(AuditLogConstants.CREATE)
+                    .timestamp(now)
+                    .entityId(savedEmployee.getId())
+                    .details(employeeMapper.toSnapshot(savedEmployee))
+                    .build());
+        }
+        entityManager.clear();
+        pending.clear();
+        pendingIndexes.clear();
+    }
 
-        // Map CreateEmployee DTO to Employee entity
+    /**
+     * Reject an email that already belongs to an employee.
+     * <p>
+     * Emails the email filter has definitely never seen skip the lookup; possible hits are confirmed
+     * with an indexed query. Concurrent inserts of the same email are still rejected by the unique
+     * constraint, see {@link #saveAndFlush}.
+     * </p>
+     */
+    private void checkEmailAvailable(String email) {
+        if (employeeEmailFilter.mightExist(email) && employeeRepository.existsByEmail(email)) {
+            throw new EmployeeAlreadyExistsException("Employee with email " + email + " already exists.");
+        }
+    }
+
+    /**
+     * Save and flush an employee, turning a unique email violation into an EmployeeAlreadyExistsException.
+     */
+    private Employee saveAndFlush(Employee employee) {
+        try {
+            return employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateIntegrityViolation(ex, "Employee with email " + employee.getEmail() + " already exists.");
+        }
+    }
+
+    private RuntimeException translateIntegrityViolation(DataIntegrityViolationException ex, String message) {
+        String cause = String.valueOf(ex.getMostSpecificCause().getMessage());
+        if (cause.toLowerCase().contains(Constants.EMPLOYEE_EMAIL_UNIQUE_CONSTRAINT)) {
+            return new EmployeeAlreadyExistsException(message);
+        }
+        return ex;
+    }
+
+    /**
+     * Map a creation request to a new Employee entity along with its Address entities.
+     */
+    private Employee buildEmployee(CreateEmployee request) {
         Employee employee = new Employee();
         employee.setName(request.getName());
         employee.setEmail(request.getEmail());
@@ -76,43 +262,85 @@ public class EmployeeServiceImpl implements EmployeeService {
             return address;
         }).toList();
         employee.setAddresses(addresses);
-        // Save the employee entity
-        Employee savedEmployee = employeeRepository.save(employee);
-
-        log.trace("Saved employee :[{}]",savedEmployee);
-        log.trace("Sending kafka event for create...");
-        // Send audit log event to Kafka
-        auditLogKafkaProducer.sendAuditLogEventToKafka(
-                new AuditLogEvent(AuditLogConstants.CREATE, LocalDateTime.now(), savedEmployee));
-        log.trace("Sent kafka event for create...");
-
-        // Return the created employee's details as a DTO
-        return employeeMapper.toDto(savedEmployee);
+        return employee;
     }
 
     /**
      * Get an employee by their ID.
+     * <p>
+     * Results are cached per ID; {@link #updateEmployee} and {@link #deleteEmployee} invalidate the entry.
+     * The invalidation generation is captured before loading, so a value loaded while the employee was
+     * being written is not cached, see {@link EmployeeCacheInvalidator}.
+     * </p>
      * @param id the ID of the employee.
      * @return the employee's details as a DTO.
      */
     @Override
+    @Timed(value = Constants.EMPLOYEE_SERVICE_TIMER, extraTags = {Constants.OPERATION, "get"}, histogram = true)
+    @Transactional(readOnly = true)
     public EmployeeResponseDto getEmployeeById(Long id) {
         log.trace("Inside getEmployeeById method");
-        return employeeMapper.toDto(
-                employeeRepository.findById(id).orElseThrow(() -> 
-                        new EmployeeNotFoundException("Employee with id " + id + " not found."))
-        );
+        EmployeeResponseDto cached = employeeCacheInvalidator.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = employeeCacheInvalidator.generation(id);
+        // Select straight into the DTO: no entities are hydrated, tracked or copied
+        List<EmployeeAddressRow> rows = employeeRepository.findRowsById(id);
+        if (rows.isEmpty()) {
+            throw new EmployeeNotFoundException("Employee with id " + id + " not found.");
+        }
+        EmployeeResponseDto employee = employeeMapper.fromRows(rows).get(0);
+        employeeCacheInvalidator.putIfUnchanged(id, generation, employee);
+        return employee;
+    }
+
+    /**
+     * List employees one keyset page at a time.
+     * <p>
+     * The page is resolved by seeking on the primary key ({@code id > afterId}), so deep pages cost the
+     * same as the first one, and the whole page is read with one additional query that selects straight
+     * into DTOs.
+     * </p>
+     * @param afterId the last id of the previous page, or null/0 for the first page.
+     * @param limit the page size, clamped to [1, {@link Constants#MAX_PAGE_SIZE}].
+     * @return the page of employees and the cursor for the next page.
+     */
+    @Override
+    @Timed(value = Constants.EMPLOYEE_SERVICE_TIMER, extraTags = {Constants.OPERATION, "list"}, histogram = true)
+    @Transactional(readOnly = true)
+    public EmployeePageResponseDto listEmployees(Long afterId, int limit) {
+        log.trace("Inside listEmployees method, afterId: {}, limit: {}", afterId, limit);
+        int pageSize = Math.max(1, Math.min(limit, Constants.MAX_PAGE_SIZE));
+
+        // Fetch one extra id to know whether another page follows
+        List<Long> ids = employeeRepository.findIdsAfter(afterId == null ? 0L : afterId, Limit.of(pageSize + 1));
+        boolean hasMore = ids.size() > pageSize;
+        if (hasMore) {
+            ids = ids.subList(0, pageSize);
+        }
+
+        List<EmployeeResponseDto> employees = ids.isEmpty()
+                ? List.of()
+                : employeeMapper.fromRows(employeeRepository.findRowsByIdIn(ids));
+
+        return EmployeePageResponseDto.builder()
+                .employees(employees)
+                .nextAfterId(ids.isEmpty() ? afterId : ids.get(ids.size() - 1))
+                .hasMore(hasMore)
+                .build();
     }
 
     /**
      * Get the Employee entity by ID.
-     * This method is used internally to fetch the entity for updates or deletions.
+     * This method is used internally to fetch the entity for reads, updates or deletions.
+     * The addresses are fetched with the employee, as every caller maps or snapshots them.
      * @param id the ID of the employee.
-     * @return the Employee entity.
+     * @return the Employee entity with initialized addresses.
      */
     public Employee getEmployeeByEmployeeId(Long id) {
         log.trace("Inside getEmployeeByEmployeeId method");
-        return employeeRepository.findById(id).orElseThrow(() -> 
+        return employeeRepository.findWithAddressesById(id).orElseThrow(() -> 
                 new EmployeeNotFoundException("Employee with id " + id + " not found."));
     }
 
@@ -123,11 +351,18 @@ public class EmployeeServiceImpl implements EmployeeService {
      * @return the updated employee's details as a DTO.
      */
     @Override
+    @Timed(value = Constants.EMPLOYEE_SERVICE_TIMER, extraTags = {Constants.OPERATION, "update"}, histogram = true)
+    @Transactional
     public EmployeeResponseDto updateEmployee(Long id, CreateEmployee request) {
         log.trace("Inside updateEmployee method");
         // Fetch the employee entity by ID
         Employee employee = getEmployeeByEmployeeId(id);
-        log.trace("Fetch employee : [{}]", employee);
+        log.trace("Fetched employee {}", id);
+        EmployeeSnapshot before = employeeMapper.toSnapshot(employee);
+        String previousEmail = employee.getEmail();
+        if (!previousEmail.equals(request.getEmail())) {
+            checkEmailAvailable(request.getEmail());
+        }
         // Update employee details
         employee.setId(employee.getId());
         employee.setName(request.getName());
@@ -135,38 +370,142 @@ public class EmployeeServiceImpl implements EmployeeService {
         employee.setPhone(request.getPhone());
 
         // Update addresses
-        List<Address> addresses = employee.getAddresses();
-        request.getAddresses()
-               .forEach(addrReq -> {
-            Address address = new Address();
-            address.setStreet(addrReq.getStreet());
-            address.setCity(addrReq.getCity());
-            address.setState(addrReq.getState());
-            address.setPostalCode(addrReq.getPostalCode());
-            addresses.add(address);
-        });
-        log.trace("After prepare address list...");
-        employee.setAddresses(addresses);
+        reconcileAddresses(employee.getAddresses(), request.getAddresses());
+        log.trace("After reconcile address list...");
+
+        return saveUpdate(employee, before, previousEmail);
+    }
+
+    /**
+     * Apply a JSON Merge Patch to an existing employee.
+     * <p>
+     * Only the supplied fields are changed. The entity uses dynamic updates, so the UPDATE statement
+     * only lists the changed columns, and addresses are only reconciled when the patch contains them.
+     * </p>
+     * @param id the ID of the employee to patch.
+     * @param patch the fields to change.
+     * @return the updated employee's details as a DTO.
+     */
+    @Override
+    @Timed(value = Constants.EMPLOYEE_SERVICE_TIMER, extraTags = {Constants.OPERATION, "patch"}, histogram = true)
+    @Transactional
+    public EmployeeResponseDto patchEmployee(Long id, PatchEmployee patch) {
+        log.trace("Inside patchEmployee method");
+        Employee employee = getEmployeeByEmployeeId(id);
+        EmployeeSnapshot before = employeeMapper.toSnapshot(employee);
+        String previousEmail = employee.getEmail();
+        if (patch.getEmail() != null && !previousEmail.equals(patch.getEmail())) {
+            checkEmailAvailable(patch.getEmail());
+        }
+        if (patch.getName() != null) {
+            employee.setName(patch.getName());
+        }
+        if (patch.getEmail() != null) {
+            employee.setEmail(patch.getEmail());
+        }
+        if (patch.getPhone() != null) {
+            employee.setPhone(patch.getPhone());
+        }
+        if (patch.getAddresses() != null) {
+            reconcileAddresses(employee.getAddresses(), patch.getAddresses());
+        }
+        return saveUpdate(employee, before, previousEmail);
+    }
 
+    /**
+     * Flush the changes of an updated employee, then keep the email filter, the caches and the audit trail in step.
+     */
+    private EmployeeResponseDto saveUpdate(Employee employee, EmployeeSnapshot before, String previousEmail) {
+        Long id = employee.getId();
         // Save the updated employee entity
-        Employee updatedEmployee = employeeRepository.save(employee);
-        log.trace("Updated employee :[{}]",updatedEmployee);
-        log.trace("Sending kafka event for update...");
-        // Send audit log event to Kafka
-        auditLogKafkaProducer.sendAuditLogEventToKafka(
-                new AuditLogEvent(AuditLogConstants.UPDATE, LocalDateTime.now(), updatedEmployee));
-        log.trace("Sent kafka event for update...");
+        Employee updatedEmployee = saveAndFlush(employee);
+        if (!previousEmail.equals(updatedEmployee.getEmail())) {
+            employeeEmailFilter.add(updatedEmployee.getEmail());
+        }
+        employeeCacheInvalidator.invalidate(id);
+        log.trace("Updated employee {}", id);
+        // Record the audit log event in the outbox, committed together with the update
+        // Only the changed fields are audited for an update
+        List<FieldChange> changes = AuditDiffUtils.diff(before, employeeMapper.toSnapshot(updatedEmployee));
+        if (!changes.isEmpty()) {
+            auditLogOutboxService.record(AuditLogEvent.builder()
+                    .operation(AuditLogConstants.UPDATE)
+                    .timestamp(LocalDateTime.now())
+                    .entityId(id)
+                    .changes(changes)
+                    .build());
+        }
 
         // Return the updated employee's details as a DTO
         return employeeMapper.toDto(updatedEmployee);
     }
 
+    /**
+     * Make the addresses of an employee match the requested ones, touching only what differs.
+     * <p>
+     * Existing addresses equal to a requested one (same street, city, state and postal code) are kept as is.
+     * The remaining existing rows are updated in place with the remaining requested values, extra requested
+     * values are inserted and extra existing rows are removed from the collection, which orphan-deletes them.
+     * Repeating the same update therefore issues no address SQL at all.
+     * </p>
+     * @param addresses the managed address collection of the employee.
+     * @param requested the complete list of addresses the employee should have.
+     */
+    private void reconcileAddresses(List<Address> addresses, List<CreateAddress> requested) {
+        Map<AddressKey, Deque<Address>> existingByKey = new HashMap<>();
+        for (Address address : addresses) {
+            existingByKey.computeIfAbsent(AddressKey.of(address), key -> new ArrayDeque<>()).add(address);
+        }
+
+        // Keep the rows that are already there, collect the requested values that are not
+        List<CreateAddress> missing = new ArrayList<>();
+        for (CreateAddress addrReq : requested) {
+            Deque<Address> same = existingByKey.get(AddressKey.of(addrReq));
+            if (same == null || same.poll() == null) {
+                missing.add(addrReq);
+            }
+        }
+        Iterator<Address> unmatched = existingByKey.values().stream().flatMap(Deque::stream).iterator();
+
+        // Reuse unmatched rows for the missing values, then insert or orphan-delete the difference
+        for (CreateAddress addrReq : missing) {
+            if (unmatched.hasNext()) {
+                Address address = unmatched.next();
+                address.setStreet(addrReq.getStreet());
+                address.setCity(addrReq.getCity());
+                address.setState(addrReq.getState());
+                address.setPostalCode(addrReq.getPostalCode());
+            } else {
+                addresses.add(addressMapper.toEntity(addrReq));
+            }
+        }
+        List<Address> removed = new ArrayList<>();
+        unmatched.forEachRemaining(removed::add);
+        addresses.removeAll(removed);
+    }
+
+    /**
+     * Natural key of an address, used to recognize unchanged addresses on update.
+     */
+    private record AddressKey(String street, String city, String state, String postalCode) {
+
+        static AddressKey of(Address address) {
+            return new AddressKey(address.getStreet(), address.getCity(), address.getState(), address.getPostalCode());
+        }
+
+        static AddressKey of(CreateAddress address) {
+            return new AddressKey(address.getStreet(), address.getCity(), address.getState(), address.getPostalCode());
+        }
+    }
+
     /**
      * Delete an employee by ID.
      * @param id the ID of the employee to delete.
      * @return a map containing confirmation of the deletion.
      */
     @Override
+    @Timed(value = Constants.EMPLOYEE_SERVICE_TIMER, extraTags = {Constants.OPERATION, "delete"}, histogram = true)
+    @Transactional
     public Map<String, Object> deleteEmployee(Long id) {
         log.trace("Inside deleteEmployee method");
         // Fetch the employee entity by ID
@@ -174,12 +513,18 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         // Delete the employee entity
         employeeRepository.delete(employee);
-        log.trace("Deleted employee :[{}]",employee);
-        log.trace("Sending kafka event for delete...");
-        // Send audit log event to Kafka
-        auditLogKafkaProducer.sendAuditLogEventToKafka(
-                new AuditLogEvent(AuditLogConstants.DELETE, LocalDateTime.now(), employee));
-        log.trace("Sent kafka event for delete...");
+        // Flush so that the employee row is locked before the outbox entry takes its id, see AuditLogOutboxRelay
+        employeeRepository.flush();
+        employeeCacheInvalidator.invalidate(id);
+        log.trace("Deleted employee {}", id);
+        // Record the audit log event in the outbox, committed together with the delete
+        auditLogOutboxService.record(
+                AuditLogEvent.builder()
+                        .operation(AuditLogConstants.DELETE)
+                        .timestamp(LocalDateTime.now())
+                        .entityId(id)
+                        .details(employeeMapper.toSnapshot(employee))
+                        .build());
 
         // Return confirmation of the deletion
         return Map.of(Constants.EMPLOYEE_ID, id, Constants.DELETED, Boolean.TRUE);
@@ -0,0 +1,84 @@
+package com.info.ems.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.info.ems.kafka.events.EmployeeSnapshot;
+import com.info.ems.kafka.events.EmployeeSnapshot.AddressSnapshot;
+import com.info.ems.kafka.events.FieldChange;
+
+/**
+ * Computes the field-level difference between two states of an employee for update audit records.
+ */
+public final class AuditDiffUtils {
+
+	private static final Map<String, Function<EmployeeSnapshot, Object>> EMPLOYEE_FIELDS = new LinkedHashMap<>();
+	private static final Map<String, Function<AddressSnapshot, Object>> ADDRESS_FIELDS = new LinkedHashMap<>();
+
+	static {
+		EMPLOYEE_FIELDS.put("name", EmployeeSnapshot::getName);
+		EMPLOYEE_FIELDS.put("email", EmployeeSnapshot::getEmail);
+		EMPLOYEE_FIELDS.put("phone", EmployeeSnapshot::getPhone);
+		EMPLOYEE_FIELDS.put("hireDate", EmployeeSnapshot::getHireDate);
+
+		ADDRESS_FIELDS.put("street", AddressSnapshot::getStreet);
+		ADDRESS_FIELDS.put("city", AddressSnapshot::getCity);
+		ADDRESS_FIELDS.put("state", AddressSnapshot::getState);
+		ADDRESS_FIELDS.put("postalCode", AddressSnapshot::getPostalCode);
+	}
+
+	private AuditDiffUtils() {
+	}
+
+	/**
+	 * Lists the fields that differ between the two states, addresses matched by id.
+	 *
+	 * @param before the state before the change
+	 * @param after  the state after the change
+	 * @return the changed fields, empty if nothing changed
+	 */
+	public static List<FieldChange> diff(EmployeeSnapshot before, EmployeeSnapshot after) {
+		List<FieldChange> changes = new ArrayList<>();
+		compare("", before, after, EMPLOYEE_FIELDS, changes);
+
+		Map<Long, AddressSnapshot> beforeAddresses = byId(before.getAddresses());
+		Map<Long, AddressSnapshot> afterAddresses = byId(after.getAddresses());
+		for (Map.Entry<Long, AddressSnapshot> entry : beforeAddresses.entrySet()) {
+			compare("addresses[" + entry.getKey() + "].", entry.getValue(), afterAddresses.get(entry.getKey()),
+					ADDRESS_FIELDS, changes);
+		}
+		for (Map.Entry<Long, AddressSnapshot> entry : afterAddresses.entrySet()) {
+			if (!beforeAddresses.containsKey(entry.getKey())) {
+				compare("addresses[" + entry.getKey() + "].", null, entry.getValue(), ADDRESS_FIELDS, changes);
+			}
+		}
+		return changes;
+	}
+
+	private static <T> void compare(String prefix, T before, T after, Map<String, Function<T, Object>> fields,
+			List<FieldChange> changes) {
+		fields.forEach((name, getter) -> {
+			String oldValue = before == null ? null : toString(getter.apply(before));
+			String newValue = after == null ? null : toString(getter.apply(after));
+			if (!Objects.equals(oldValue, newValue)) {
+				changes.add(new FieldChange(prefix + name, oldValue, newValue));
+			}
+		});
+	}
+
+	private static Map<Long, AddressSnapshot> byId(List<AddressSnapshot> addresses) {
+		Map<Long, AddressSnapshot> map = new LinkedHashMap<>();
+		if (addresses != null) {
+			addresses.forEach(address -> map.put(address.getId(), address));
+		}
+		return map;
+	}
+
+	private static String toString(Object value) {
+		return value == null ? null : value.toString();
+	}
+}
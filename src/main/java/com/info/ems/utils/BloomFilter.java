@@ -0,0 +1,97 @@
+package com.info.ems.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings, backed by a bit array updated with CAS.
+ * <p>
+ * {@link #mightContain} never returns {@code false} for a value that was added; it may return {@code true}
+ * for a value that was never added, with roughly the configured probability while the number of values
+ * stays within the expected insertions. Values cannot be removed: a filter holding stale values has to be
+ * rebuilt instead.
+ * </p>
+ */
+public final class BloomFilter {
+
+	private final AtomicLongArray words;
+	private final int numBits;
+	private final int numHashFunctions;
+
+	/**
+	 * Creates a filter sized for the given number of values and false positive probability.
+	 *
+	 * @param expectedInsertions       the number of values the filter is expected to hold
+	 * @param falsePositiveProbability the desired false positive probability, between 0 and 1 exclusive
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("expectedInsertions must be positive");
+		}
+		if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+			throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1");
+		}
+		double ln2 = Math.log(2);
+		long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2));
+		this.numBits = (int) Math.min(bits, Integer.MAX_VALUE - Long.SIZE);
+		this.numHashFunctions = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * ln2));
+		this.words = new AtomicLongArray((numBits + Long.SIZE - 1) / Long.SIZE);
+	}
+
+	public void add(String value) {
+		long hash = hash64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= numHashFunctions; i++) {
+			set(index(h1, h2, i));
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash = hash64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= numHashFunctions; i++) {
+			int index = index(h1, h2, i);
+			if ((words.get(index / Long.SIZE) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Kirsch-Mitzenmacher: derive the i-th hash from two base hashes
+	private int index(int h1, int h2, int i) {
+		int combined = h1 + i * h2;
+		if (combined < 0) {
+			combined = ~combined;
+		}
+		return combined % numBits;
+	}
+
+	private void set(int index) {
+		int word = index / Long.SIZE;
+		// Shifts of a long only use the low 6 bits, so this is the bit of index within its word
+		long mask = 1L << index;
+		while (true) {
+			long current = words.get(word);
+			if ((current & mask) != 0 || words.compareAndSet(word, current, current | mask)) {
+				return;
+			}
+		}
+	}
+
+	// 64-bit FNV-1a followed by the MurmurHash3 finalizer to spread the bits
+	private static long hash64(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
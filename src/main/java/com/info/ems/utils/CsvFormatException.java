@@ -0,0 +1,28 @@
+package com.info.ems.utils;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Thrown when a CSV record cannot be read: it has an unterminated quoted field or exceeds the maximum length.
+ * The input cannot be resynchronized after such a record, so reading must stop.
+ */
+public class CsvFormatException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	// The fields read before the error, at most the maximum record length in total
+	private final transient List<String> fields;
+
+	public CsvFormatException(String message, List<String> fields) {
+		super(message);
+		this.fields = fields;
+	}
+
+	/**
+	 * @return the fields read before the error, the last one possibly cut short
+	 */
+	public List<String> getFields() {
+		return fields;
+	}
+}
@@ -0,0 +1,124 @@
+package com.info.ems.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 helpers used by the CSV export and import.
+ */
+public final class CsvUtils {
+
+	private CsvUtils() {
+	}
+
+	/**
+	 * Writes one CSV record followed by a line break, quoting fields that contain a separator,
+	 * a quote or a line break. Null values are written as empty fields.
+	 *
+	 * @param writer the target writer
+	 * @param fields the field values of the record
+	 * @throws IOException if writing fails
+	 */
+	public static void writeRecord(Writer writer, Object... fields) throws IOException {
+		for (int i = 0; i < fields.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			if (fields[i] != null) {
+				writeField(writer, fields[i].toString());
+			}
+		}
+		writer.write('\n');
+	}
+
+	/**
+	 * Reads the next CSV record from the reader. Quoted fields may contain separators, escaped
+	 * quotes ({@code ""}) and line breaks. Only one record is held in memory at a time, and at most
+	 * {@code maxRecordChars} characters of it, so that a stray quote cannot pull the rest of the input
+	 * into one field.
+	 *
+	 * @param reader         the source reader; it must support mark/reset, e.g. a {@link java.io.BufferedReader}
+	 * @param maxRecordChars the maximum number of characters of a record, line break excluded
+	 * @return the fields of the record, or {@code null} at the end of the input
+	 * @throws CsvFormatException if the record is longer than the maximum or ends the input inside a quoted field
+	 * @throws IOException        if reading fails
+	 */
+	public static List<String> readRecord(Reader reader, int maxRecordChars) throws IOException {
+		int c = reader.read();
+		if (c == -1) {
+			return null;
+		}
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		int length = 0;
+		while (c != -1) {
+			if (!quoted && c == '\n') {
+				break;
+			}
+			if (!quoted && c == '\r') {
+				c = reader.read();
+				continue;
+			}
+			if (++length > maxRecordChars) {
+				fields.add(field.toString());
+				throw new CsvFormatException("Record longer than " + maxRecordChars + " characters"
+						+ (quoted ? ", the quoted field starting at column " + fields.size() + " is probably not terminated" : ""),
+						fields);
+			}
+			if (quoted) {
+				if (c == '"') {
+					reader.mark(1);
+					int next = reader.read();
+					if (next == '"') {
+						field.append('"');
+					} else {
+						quoted = false;
+						if (next != -1) {
+							reader.reset();
+						}
+					}
+				} else {
+					field.append((char) c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else {
+				field.append((char) c);
+			}
+			c = reader.read();
+		}
+		fields.add(field.toString());
+		if (quoted) {
+			throw new CsvFormatException("Quoted field starting at column " + fields.size() + " is not terminated", fields);
+		}
+		return fields;
+	}
+
+	private static void writeField(Writer writer, String value) throws IOException {
+		boolean quote = false;
+		for (int i = 0; i < value.length() && !quote; i++) {
+			char c = value.charAt(i);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+		if (!quote) {
+			writer.write(value);
+			return;
+		}
+		writer.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"') {
+				writer.write('"');
+			}
+			writer.write(c);
+		}
+		writer.write('"');
+	}
+}
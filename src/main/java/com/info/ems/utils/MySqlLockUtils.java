@@ -0,0 +1,59 @@
+package com.info.ems.utils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * MySQL named locks ({@code GET_LOCK}), used to run a background job on one node at a time.
+ * <p>
+ * A named lock belongs to the session that took it, so the connection must stay open while the job runs,
+ * but no transaction is needed; it is released on {@link #unlock} or when the connection closes.
+ * </p>
+ */
+public final class MySqlLockUtils {
+
+	private MySqlLockUtils() {
+	}
+
+	/**
+	 * @param connection the connection to inspect
+	 * @return whether the connection is to a MySQL server, the only database named locks are used on
+	 * @throws SQLException if the database metadata cannot be read
+	 */
+	public static boolean isMySql(Connection connection) throws SQLException {
+		return "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+	}
+
+	/**
+	 * Takes a named lock without waiting.
+	 *
+	 * @param connection the session the lock is held by
+	 * @param name       the name of the lock
+	 * @return whether the lock was taken, false if another session holds it
+	 * @throws SQLException if the statement fails
+	 */
+	public static boolean tryLock(Connection connection, String name) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+			statement.setString(1, name);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				return resultSet.next() && resultSet.getInt(1) == 1;
+			}
+		}
+	}
+
+	/**
+	 * Releases a named lock taken with {@link #tryLock}.
+	 *
+	 * @param connection the session the lock is held by
+	 * @param name       the name of the lock
+	 * @throws SQLException if the statement fails
+	 */
+	public static void unlock(Connection connection, String name) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+			statement.setString(1, name);
+			statement.execute();
+		}
+	}
+}
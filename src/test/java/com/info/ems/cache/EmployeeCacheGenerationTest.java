@@ -0,0 +1,127 @@
+package com.info.ems.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.info.ems.constants.Constants;
+import com.info.ems.dtos.response.EmployeeResponseDto;
+import com.info.ems.kafka.producers.CacheInvalidationProducerService;
+import com.info.ems.mapper.AddressMapper;
+import com.info.ems.mapper.EmployeeMapper;
+import com.info.ems.repositories.AddressRepository;
+import com.info.ems.repositories.EmployeeRepository;
+import com.info.ems.repositories.projections.EmployeeAddressRow;
+import com.info.ems.services.AuditLogOutboxService;
+import com.info.ems.services.impl.EmployeeServiceImpl;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Races employee reads that fill the cache against writes that invalidate it.
+ */
+class EmployeeCacheGenerationTest {
+
+    private static final Long EMPLOYEE_ID = 1L;
+
+    private final EmployeeResponseDto before = new EmployeeResponseDto(EMPLOYEE_ID, "John Doe", "john.doe@example.com", "1234567890", List.of());
+    private final EmployeeResponseDto after = new EmployeeResponseDto(EMPLOYEE_ID, "John Doe", "john.doe@example.com", "0987654321", List.of());
+
+    private ConcurrentMapCacheManager cacheManager;
+    private EmployeeCacheInvalidator employeeCacheInvalidator;
+    private EmployeeRepository employeeRepository;
+    private EmployeeMapper employeeMapper;
+    private EmployeeServiceImpl employeeService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(Constants.EMPLOYEE_CACHE);
+        employeeCacheInvalidator = new EmployeeCacheInvalidator(cacheManager, mock(CacheInvalidationProducerService.class));
+        employeeRepository = mock(EmployeeRepository.class);
+        employeeMapper = mock(EmployeeMapper.class);
+        employeeService = new EmployeeServiceImpl(employeeRepository, employeeMapper, mock(AddressMapper.class),
+                mock(AddressRepository.class), mock(AuditLogOutboxService.class), mock(EntityManager.class),
+                employeeCacheInvalidator, mock(EmployeeEmailFilter.class), 50);
+    }
+
+    @Test
+    void testGetEmployeeById_DoesNotCacheAReadThatRacedAWrite() throws Exception {
+        // Arrange
+        List<EmployeeAddressRow> staleRows = List.of(mock(EmployeeAddressRow.class));
+        List<EmployeeAddressRow> freshRows = List.of(mock(EmployeeAddressRow.class));
+        when(employeeMapper.fromRows(staleRows)).thenReturn(List.of(before));
+        when(employeeMapper.fromRows(freshRows)).thenReturn(List.of(after));
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        when(employeeRepository.findRowsById(EMPLOYEE_ID))
+                .thenAnswer(invocation -> {
+                    // The read has loaded the pre-write state and now stalls until the write committed
+                    loaded.countDown();
+                    assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+                    return staleRows;
+                })
+                .thenReturn(freshRows);
+
+        // Act
+        CompletableFuture<EmployeeResponseDto> staleRead =
+                CompletableFuture.supplyAsync(() -> employeeService.getEmployeeById(EMPLOYEE_ID));
+        assertThat(loaded.await(10, TimeUnit.SECONDS)).isTrue();
+        employeeCacheInvalidator.invalidate(EMPLOYEE_ID);
+        written.countDown();
+        EmployeeResponseDto staleResult = staleRead.get(10, TimeUnit.SECONDS);
+        EmployeeResponseDto freshResult = employeeService.getEmployeeById(EMPLOYEE_ID);
+
+        // Assert
+        assertThat(staleResult).isEqualTo(before);
+        assertThat(freshResult).isEqualTo(after);
+        assertThat(employeeCacheInvalidator.get(EMPLOYEE_ID)).isEqualTo(after);
+    }
+
+    @Test
+    void testPutIfUnchanged_CachesAReadNobodyInvalidated() {
+        // Arrange
+        long generation = employeeCacheInvalidator.generation(EMPLOYEE_ID);
+
+        // Act
+        employeeCacheInvalidator.putIfUnchanged(EMPLOYEE_ID, generation, before);
+
+        // Assert
+        assertThat(employeeCacheInvalidator.get(EMPLOYEE_ID)).isEqualTo(before);
+    }
+
+    @Test
+    void testPutIfUnchanged_NeverOverwritesANewerValue() {
+        // Arrange
+        long generation = employeeCacheInvalidator.generation(EMPLOYEE_ID);
+        employeeCacheInvalidator.putIfUnchanged(EMPLOYEE_ID, generation, after);
+
+        // Act
+        employeeCacheInvalidator.putIfUnchanged(EMPLOYEE_ID, generation, before);
+
+        // Assert
+        assertThat(employeeCacheInvalidator.get(EMPLOYEE_ID)).isEqualTo(after);
+    }
+
+    @Test
+    void testEvict_InvalidatesReadsLoadingOnThisNode() {
+        // Arrange
+        long generation = employeeCacheInvalidator.generation(EMPLOYEE_ID);
+
+        // Act
+        // An invalidation received from another node
+        employeeCacheInvalidator.evict(EMPLOYEE_ID);
+        employeeCacheInvalidator.putIfUnchanged(EMPLOYEE_ID, generation, before);
+
+        // Assert
+        assertThat(cacheManager.getCache(Constants.EMPLOYEE_CACHE).get(EMPLOYEE_ID)).isNull();
+    }
+}
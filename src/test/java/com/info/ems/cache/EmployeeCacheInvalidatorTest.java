@@ -0,0 +1,142 @@
+package com.info.ems.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+
+import com.info.ems.constants.Constants;
+import com.info.ems.dtos.response.EmployeeResponseDto;
+import com.info.ems.kafka.KafkaURLConfiguration;
+import com.info.ems.kafka.NodeConfiguration;
+import com.info.ems.kafka.config.CacheInvalidationKafkaConfig;
+import com.info.ems.kafka.consumers.CacheInvalidationConsumerService;
+import com.info.ems.kafka.producers.CacheInvalidationProducerService;
+
+/**
+ * Runs two EMS "nodes" (each with its own cache and invalidation listener) against an embedded
+ * Kafka broker and checks that a write on one node evicts the cached entry on the other.
+ */
+class EmployeeCacheInvalidatorTest {
+
+    private static final Long EMPLOYEE_ID = 42L;
+
+    private static EmbeddedKafkaBroker broker;
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 1, Constants.CACHE_INVALIDATION_TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @BeforeEach
+    void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterEach
+    void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void testInvalidate_EvictsEntryOnEveryNode() throws InterruptedException {
+        // Arrange
+        employeeCache(nodeA).put(EMPLOYEE_ID, new EmployeeResponseDto(EMPLOYEE_ID, "John Doe", "john.doe@example.com", "1234567890", null));
+        employeeCache(nodeB).put(EMPLOYEE_ID, new EmployeeResponseDto(EMPLOYEE_ID, "John Doe", "john.doe@example.com", "1234567890", null));
+
+        // Act
+        nodeA.getBean(EmployeeCacheInvalidator.class).invalidate(EMPLOYEE_ID);
+
+        // Assert
+        assertThat(employeeCache(nodeA).get(EMPLOYEE_ID)).isNull();
+        assertThat(awaitEviction(employeeCache(nodeB), Duration.ofSeconds(10))).isTrue();
+    }
+
+    @Test
+    void testInvalidate_IgnoresUnrelatedEntries() throws InterruptedException {
+        // Arrange
+        employeeCache(nodeB).put(EMPLOYEE_ID, new EmployeeResponseDto(EMPLOYEE_ID, "John Doe", "john.doe@example.com", "1234567890", null));
+        employeeCache(nodeB).put(7L, new EmployeeResponseDto(7L, "Jane Doe", "jane.doe@example.com", "0987654321", null));
+
+        // Act
+        nodeA.getBean(EmployeeCacheInvalidator.class).invalidate(EMPLOYEE_ID);
+
+        // Assert
+        assertThat(awaitEviction(employeeCache(nodeB), Duration.ofSeconds(10))).isTrue();
+        assertThat(employeeCache(nodeB).get(7L)).isNotNull();
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(NodeConfig.class)
+                .web(WebApplicationType.NONE)
+                .run("--kafka.url=" + broker.getBrokersAsString(), "--ems.node-id=" + nodeId);
+        // The consumer starts from the latest offset, so wait until it owns the partition
+        for (MessageListenerContainer container : context.getBean(KafkaListenerEndpointRegistry.class).getListenerContainers()) {
+            ContainerTestUtils.waitForAssignment(container, 1);
+        }
+        return context;
+    }
+
+    private static Cache employeeCache(ConfigurableApplicationContext node) {
+        return node.getBean(CacheManager.class).getCache(Constants.EMPLOYEE_CACHE);
+    }
+
+    private static boolean awaitEviction(Cache cache, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (cache.get(EMPLOYEE_ID) == null) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+    @Configuration
+    @EnableKafka
+    @Import({
+            KafkaURLConfiguration.class,
+            NodeConfiguration.class,
+            CacheInvalidationKafkaConfig.class,
+            CacheInvalidationProducerService.class,
+            CacheInvalidationConsumerService.class,
+            EmployeeCacheInvalidator.class})
+    static class NodeConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(Constants.EMPLOYEE_CACHE);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.info.ems.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.info.ems.repositories.EmployeeRepository;
+
+class EmployeeEmailFilterTest {
+
+    private EmployeeRepository employeeRepository;
+    private EmployeeEmailFilter employeeEmailFilter;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        employeeEmailFilter = new EmployeeEmailFilter(employeeRepository, mock(PlatformTransactionManager.class), 1_000, 0.01);
+    }
+
+    @Test
+    void testMightExist_ReportsEveryEmailAsPossiblyTakenUntilLoaded() {
+        // Act & Assert
+        assertThat(employeeEmailFilter.mightExist("john.doe@example.com")).isTrue();
+    }
+
+    @Test
+    void testMightExist_RulesOutEmailsMissingFromTheTable() {
+        // Arrange
+        when(employeeRepository.streamAllEmails()).thenReturn(Stream.of("john.doe@example.com"));
+
+        // Act
+        employeeEmailFilter.load();
+        employeeEmailFilter.add("jane.doe@example.com");
+
+        // Assert
+        assertThat(employeeEmailFilter.mightExist("john.doe@example.com")).isTrue();
+        assertThat(employeeEmailFilter.mightExist("jane.doe@example.com")).isTrue();
+        assertThat(employeeEmailFilter.mightExist("new.hire@example.com")).isFalse();
+    }
+
+    @Test
+    void testLoad_StaysInFallbackModeWhenTheTableCannotBeRead() {
+        // Arrange
+        when(employeeRepository.streamAllEmails()).thenThrow(new QueryTimeoutException("database unavailable"));
+
+        // Act
+        employeeEmailFilter.load();
+
+        // Assert
+        assertThat(employeeEmailFilter.mightExist("new.hire@example.com")).isTrue();
+    }
+
+    @Test
+    void testRebuild_DropsReleasedEmailsAndPicksUpEmailsTakenOnOtherNodes() {
+        // Arrange
+        when(employeeRepository.streamAllEmails())
+                .thenReturn(Stream.of("john.doe@example.com"))
+                .thenReturn(Stream.of("jane.doe@example.com"));
+        employeeEmailFilter.load();
+
+        // Act
+        employeeEmailFilter.rebuild();
+
+        // Assert
+        assertThat(employeeEmailFilter.mightExist("john.doe@example.com")).isFalse();
+        assertThat(employeeEmailFilter.mightExist("jane.doe@example.com")).isTrue();
+    }
+
+    @Test
+    void testRebuild_KeepsThePreviousFilterWhenTheTableCannotBeRead() {
+        // Arrange
+        when(employeeRepository.streamAllEmails())
+                .thenReturn(Stream.of("john.doe@example.com"))
+                .thenThrow(new QueryTimeoutException("database unavailable"));
+        employeeEmailFilter.load();
+
+        // Act
+        employeeEmailFilter.rebuild();
+
+        // Assert
+        assertThat(employeeEmailFilter.mightExist("john.doe@example.com")).isTrue();
+        assertThat(employeeEmailFilter.mightExist("new.hire@example.com")).isFalse();
+    }
+}
@@ -1,23 +1,33 @@
 package com.info.ems.controller;
 
+import com.info.ems.dtos.request.CreateAddress;
 import com.info.ems.dtos.request.CreateEmployee;
 import com.info.ems.dtos.response.EmployeeResponseDto;
 import com.info.ems.dtos.response.Response;
+import com.info.ems.services.EmployeeExportService;
+import com.info.ems.services.EmployeeImportService;
 import com.info.ems.services.EmployeeService;
 import com.info.ems.constants.Constants;
 import com.info.ems.contollers.EmployeeController;
+import com.info.ems.exceptions.GlobalExceptionHandler;
+
+import jakarta.servlet.ServletException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -32,30 +42,37 @@ public class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private EmployeeExportService employeeExportService;
+
+    @Mock
+    private EmployeeImportService employeeImportService;
+
     @InjectMocks
     private EmployeeController employeeController;
 
     @BeforeEach
     public void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(employeeController).build();
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(employeeController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
     }
 
     @Test
     public void testCreateEmployee() throws Exception {
-        CreateEmployee request = new CreateEmployee();
-        request.setName("John Doe");
-        request.setPosition("Software Engineer");
+        CreateEmployee request = createEmployee("John Doe", "john.doe@example.com");
 
         EmployeeResponseDto responseDto = new EmployeeResponseDto();
         responseDto.setId(1L);
         responseDto.setName("John Doe");
-        responseDto.setPosition("Software Engineer");
+        responseDto.setEmail("john.doe@example.com");
 
         when(employeeService.createEmployee(request)).thenReturn(responseDto);
 
         mockMvc.perform(post("/api/v1/ems/create-employee")
                         .contentType("application/json")
-                        .content("{ \"name\": \"John Doe\", \"position\": \"Software Engineer\" }"))
+                        .content(employeeJson("John Doe", "john.doe@example.com")))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.status").value("CREATED"))
                 .andExpect(jsonPath("$.message").value("Employee created successfully"))
@@ -70,7 +87,7 @@ public class EmployeeControllerTest {
         EmployeeResponseDto responseDto = new EmployeeResponseDto();
         responseDto.setId(id);
         responseDto.setName("John Doe");
-        responseDto.setPosition("Software Engineer");
+        responseDto.setEmail("john.doe@example.com");
 
         when(employeeService.getEmployeeById(id)).thenReturn(responseDto);
 
@@ -87,20 +104,18 @@ public class EmployeeControllerTest {
     public void testUpdateEmployee() throws Exception {
         Long id = 1L;
         
-        CreateEmployee request = new CreateEmployee();
-        request.setName("John Updated");
-        request.setPosition("Senior Software Engineer");
+        CreateEmployee request = createEmployee("John Updated", "john.updated@example.com");
 
         EmployeeResponseDto responseDto = new EmployeeResponseDto();
         responseDto.setId(id);
         responseDto.setName("John Updated");
-        responseDto.setPosition("Senior Software Engineer");
+        responseDto.setEmail("john.updated@example.com");
 
         when(employeeService.updateEmployee(id, request)).thenReturn(responseDto);
 
         mockMvc.perform(put("/api/v1/ems/{id}", id)
                         .contentType("application/json")
-                        .content("{ \"name\": \"John Updated\", \"position\": \"Senior Software Engineer\" }"))
+                        .content(employeeJson("John Updated", "john.updated@example.com")))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("OK"))
                 .andExpect(jsonPath("$.message").value("Employee updated successfully"))
@@ -119,9 +134,38 @@ public class EmployeeControllerTest {
         mockMvc.perform(delete("/api/v1/ems/{id}", id))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("OK"))
-                .andExpect(jsonPath("$.message").value("Employee deleted successfully"))
+                .andExpect(jsonPath("$.message").value("Employee deleted successfully."))
                 .andExpect(jsonPath("$.data").exists());
 
         verify(employeeService, times(1)).deleteEmployee(id);
     }
+
+    @Test
+    public void testExportEmployees_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/ems/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported export format, expected one of ndjson, csv."));
+
+        verifyNoInteractions(employeeExportService);
+    }
+
+    @Test
+    public void testGetEmployeeById_InternalIllegalArgumentIsNotABadRequest() {
+        when(employeeService.getEmployeeById(1L)).thenThrow(new IllegalArgumentException("internal detail"));
+
+        ServletException thrown = assertThrows(ServletException.class,
+                () -> mockMvc.perform(get("/api/v1/ems/{id}", 1L)));
+        assertInstanceOf(IllegalArgumentException.class, thrown.getCause());
+    }
+
+    private static CreateEmployee createEmployee(String name, String email) {
+        return new CreateEmployee(name, email, "1234567890",
+                List.of(new CreateAddress("1 Main Street", "Springfield", "IL", "62701")));
+    }
+
+    private static String employeeJson(String name, String email) {
+        return "{ \"name\": \"" + name + "\", \"email\": \"" + email + "\", \"phone\": \"1234567890\", "
+                + "\"addresses\": [ { \"street\": \"1 Main Street\", \"city\": \"Springfield\", "
+                + "\"state\": \"IL\", \"postalCode\": \"62701\" } ] }";
+    }
 }
@@ -0,0 +1,140 @@
+package com.info.ems.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import com.info.ems.dtos.response.EmployeeResponseDto;
+import com.info.ems.kafka.events.AuditLogEvent;
+
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class FlightRecorderEndpointTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private FlightRecorderEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new FlightRecorderEndpoint(dumpDirectory, DataSize.ofMegabytes(16), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.closeRecording();
+    }
+
+    @Test
+    void testStartAndStop_DumpsApplicationEvents() throws Exception {
+        // Arrange
+        WebEndpointResponse<Map<String, Object>> started = endpoint.control("start", "default", null);
+        EmployeeOperationEvent operation = new EmployeeOperationEvent();
+        operation.begin();
+        operation.complete("getEmployeeById", new Object[]{42L}, new EmployeeResponseDto(), null);
+        AuditLogBatchEvent batch = AuditLogBatchEvent.start();
+        batch.complete(List.of(auditLogEvent(7L), auditLogEvent(9L)), null);
+
+        // Act
+        WebEndpointResponse<Map<String, Object>> stopped = endpoint.control("stop", null, null);
+
+        // Assert
+        assertThat(started.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(stopped.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(stopped.getBody()).containsEntry("state", "NONE");
+        String dump = (String) stopped.getBody().get("dump");
+        assertThat(endpoint.status().get("dumps")).isEqualTo(List.of(dump));
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dumpDirectory.resolve(dump));
+        RecordedEvent recordedOperation = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.info.ems.EmployeeOperation"))
+                .findFirst().orElseThrow();
+        assertThat(recordedOperation.getString("operation")).isEqualTo("getEmployeeById");
+        assertThat(recordedOperation.getLong("employeeId")).isEqualTo(42L);
+        assertThat(recordedOperation.getInt("rows")).isEqualTo(1);
+        RecordedEvent recordedBatch = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.info.ems.AuditLogBatch"))
+                .findFirst().orElseThrow();
+        assertThat(recordedBatch.getInt("records")).isEqualTo(2);
+        assertThat(recordedBatch.getLong("firstEmployeeId")).isEqualTo(7L);
+        assertThat(recordedBatch.getLong("lastEmployeeId")).isEqualTo(9L);
+    }
+
+    @Test
+    void testDump_KeepsRecordingRunningAndIsDownloadable() throws Exception {
+        // Arrange
+        endpoint.control("start", null, null);
+
+        // Act
+        WebEndpointResponse<Map<String, Object>> dumped = endpoint.control("dump", null, null);
+        WebEndpointResponse<Resource> download = endpoint.download((String) dumped.getBody().get("dump"));
+
+        // Assert
+        assertThat(dumped.getBody()).containsEntry("state", RecordingState.RUNNING)
+                .containsEntry("settings", "profile");
+        assertThat(download.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(download.getBody().contentLength()).isPositive();
+    }
+
+    @Test
+    void testStart_LeavesOutEnvironmentVariablesAndSystemProperties() throws Exception {
+        // Arrange
+        endpoint.control("start", "profile", null);
+
+        // Act
+        String dump = (String) endpoint.control("stop", null, null).getBody().get("dump");
+
+        // Assert
+        assertThat(RecordingFile.readAllEvents(dumpDirectory.resolve(dump)))
+                .extracting(event -> event.getEventType().getName())
+                .contains("jdk.JVMInformation")
+                .doesNotContain("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty");
+    }
+
+    @Test
+    void testDump_KeepsOnlyTheLatestDumps() throws Exception {
+        // Arrange
+        endpoint.control("start", null, null);
+        List<String> dumps = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            dumps.add((String) endpoint.control("dump", null, null).getBody().get("dump"));
+            // Dump names have a millisecond timestamp
+            Thread.sleep(5);
+        }
+
+        // Assert
+        assertThat(endpoint.status().get("dumps")).isEqualTo(dumps.subList(1, 3));
+    }
+
+    @Test
+    void testControl_RejectsInvalidRequests() throws Exception {
+        // Act / Assert
+        assertThat(endpoint.control("stop", null, null).getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+        assertThat(endpoint.control("start", "no-such-settings", null).getStatus())
+                .isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+        assertThat(endpoint.control("restart", null, null).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.download("../application.properties").getStatus())
+                .isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    private static AuditLogEvent auditLogEvent(Long employeeId) {
+        return new AuditLogEvent("CREATE", LocalDateTime.now(), employeeId, null, List.of());
+    }
+}
@@ -0,0 +1,133 @@
+package com.info.ems.kafka.consumers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.info.ems.constants.AuditLogSerialization;
+import com.info.ems.constants.Constants;
+import com.info.ems.kafka.KafkaURLConfiguration;
+import com.info.ems.kafka.config.AuditLogConsumerConfig;
+import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.kafka.serialization.AuditLogEventDeserializer;
+import com.info.ems.kafka.serialization.AuditLogEventSerializer;
+import com.info.ems.kafka.serialization.AuditLogSchemaRegistry;
+import com.info.ems.services.AuditLogService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the audit log listener container against an embedded broker, with an audit log service that
+ * cannot store one of the events.
+ */
+@SpringJUnitConfig
+@EmbeddedKafka(kraft = true, partitions = 1,
+        topics = {Constants.SYSTEM_AUIDT_LOG_TOPIC, Constants.SYSTEM_AUIDT_LOG_DLT_TOPIC})
+@TestPropertySource(properties = {
+        "kafka.url=${spring.embedded.kafka.brokers}",
+        "ems.audit.consumer.retries=1",
+        "ems.audit.serialization=JSON"
+})
+class AuditLogConsumerDeadLetterTest {
+
+    private static final long BAD_EMPLOYEE_ID = 2L;
+
+    @Configuration
+    @EnableKafka
+    @Import({AuditLogConsumerConfig.class, AuditLogConsumerService.class, KafkaURLConfiguration.class,
+            AuditLogSchemaRegistry.class})
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        AuditLogService auditLogService() {
+            AuditLogService auditLogService = mock(AuditLogService.class);
+            when(auditLogService.createAuditLogs(any()))
+                    .thenThrow(new DataIntegrityViolationException("details too long"));
+            when(auditLogService.createAuditLog(argThat(event -> event.getEntityId() == BAD_EMPLOYEE_ID)))
+                    .thenThrow(new DataIntegrityViolationException("details too long"));
+            return auditLogService;
+        }
+    }
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Autowired
+    private AuditLogSchemaRegistry auditLogSchemaRegistry;
+
+    @Test
+    void testBadEventGoesToTheDeadLetterTopicAndTheOthersAreStored() {
+        // Arrange
+        List<AuditLogEvent> events = List.of(event(1L), event(BAD_EMPLOYEE_ID), event(3L));
+
+        // Act
+        try (KafkaProducer<String, AuditLogEvent> producer = new KafkaProducer<>(
+                KafkaTestUtils.producerProps(embeddedKafka), new StringSerializer(),
+                new AuditLogEventSerializer(AuditLogSerialization.JSON, auditLogSchemaRegistry))) {
+            for (AuditLogEvent event : events) {
+                producer.send(new ProducerRecord<>(Constants.SYSTEM_AUIDT_LOG_TOPIC, String.valueOf(event.getEntityId()), event));
+            }
+        }
+
+        // Assert
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+            verify(auditLogService).createAuditLog(events.get(0));
+            verify(auditLogService).createAuditLog(events.get(2));
+        });
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("dead-letter-test", "false", embeddedKafka);
+        JsonDeserializer<AuditLogEvent> jsonDeserializer = new JsonDeserializer<>(AuditLogEvent.class, false);
+        jsonDeserializer.addTrustedPackages("*");
+        try (Consumer<String, AuditLogEvent> consumer = new DefaultKafkaConsumerFactory<>(consumerProps,
+                new StringDeserializer(), new AuditLogEventDeserializer(auditLogSchemaRegistry, jsonDeserializer))
+                .createConsumer()) {
+            embeddedKafka.consumeFromAnEmbeddedTopic(consumer, Constants.SYSTEM_AUIDT_LOG_DLT_TOPIC);
+            ConsumerRecord<String, AuditLogEvent> deadLetter =
+                    KafkaTestUtils.getSingleRecord(consumer, Constants.SYSTEM_AUIDT_LOG_DLT_TOPIC, Duration.ofSeconds(30));
+            assertThat(deadLetter.value().getEntityId()).isEqualTo(BAD_EMPLOYEE_ID);
+            assertThat(deadLetter.headers().lastHeader("kafka_dlt-exception-message")).isNotNull();
+        }
+    }
+
+    private static AuditLogEvent event(Long employeeId) {
+        return new AuditLogEvent("CREATE", LocalDateTime.now(), employeeId, null, List.of());
+    }
+}
@@ -0,0 +1,94 @@
+package com.info.ems.kafka.consumers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.services.AuditLogService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuditLogConsumerServiceTest {
+
+    private AuditLogService auditLogService;
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLogConsumerService auditLogConsumerService;
+
+    @BeforeEach
+    void setUp() {
+        auditLogService = mock(AuditLogService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        auditLogConsumerService = new AuditLogConsumerService(auditLogService, meterRegistry);
+    }
+
+    @Test
+    void testConsumeForAuditLog_RecordsPollSizeAndProcessingTime() {
+        // Arrange
+        List<AuditLogEvent> events = List.of(event(1L), event(2L), event(3L));
+
+        // Act
+        auditLogConsumerService.consumeForAuditLog(events);
+        auditLogConsumerService.consumeForAuditLog(List.of(event(4L)));
+
+        // Assert
+        verify(auditLogService).createAuditLogs(events);
+        DistributionSummary records = meterRegistry.get("ems.audit.consumer.records")
+                .tag("operation", "create-audit-logs").summary();
+        assertThat(records.count()).isEqualTo(2);
+        assertThat(records.totalAmount()).isEqualTo(4);
+        assertThat(records.max()).isEqualTo(3);
+        Timer processing = meterRegistry.get("ems.audit.consumer.processing")
+                .tag("operation", "create-audit-logs").timer();
+        assertThat(processing.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testConsumeForAuditLog_TimesFailedBatches() {
+        // Arrange
+        List<AuditLogEvent> events = List.of(event(1L));
+        when(auditLogService.createAuditLogs(events)).thenThrow(new IllegalStateException("database down"));
+        when(auditLogService.createAuditLog(events.get(0))).thenThrow(new IllegalStateException("database down"));
+
+        // Act / Assert
+        assertThatThrownBy(() -> auditLogConsumerService.consumeForAuditLog(events))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("ems.audit.consumer.processing").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testConsumeForAuditLog_StoresEventsOneByOneAndReportsTheFirstBadOne() {
+        // Arrange
+        List<AuditLogEvent> events = List.of(event(1L), event(2L), event(3L));
+        when(auditLogService.createAuditLogs(events)).thenThrow(new DataIntegrityViolationException("details too long"));
+        when(auditLogService.createAuditLog(events.get(1))).thenThrow(new DataIntegrityViolationException("details too long"));
+
+        // Act
+        Throwable thrown = catchThrowable(() -> auditLogConsumerService.consumeForAuditLog(events));
+
+        // Assert
+        assertThat(thrown).isInstanceOf(BatchListenerFailedException.class);
+        assertThat(((BatchListenerFailedException) thrown).getIndex()).isEqualTo(1);
+        verify(auditLogService).createAuditLog(events.get(0));
+        verify(auditLogService, never()).createAuditLog(events.get(2));
+    }
+
+    private static AuditLogEvent event(Long employeeId) {
+        return new AuditLogEvent("CREATE", LocalDateTime.now(), employeeId, null, List.of());
+    }
+}
@@ -0,0 +1,301 @@
+package com.info.ems.kafka.producers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.info.ems.kafka.NodeConfiguration;
+import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.kafka.events.FieldChange;
+import com.info.ems.models.AuditLogOutbox;
+import com.info.ems.models.AuditLogOutboxLease;
+import com.info.ems.repositories.AuditLogOutboxLeaseRepository;
+import com.info.ems.repositories.AuditLogOutboxRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Runs the relay against the outbox and lease tables with a Kafka producer acknowledging or failing each send,
+ * outside of a test transaction so that the relay commits its own reads and deletes.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuditLogOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final String LEASE_NAME = "ems_audit_log_outbox_relay";
+    private static final String NODE_ID = "this-node";
+    private static final String OTHER_NODE_ID = "other-node";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Autowired
+    private AuditLogOutboxRepository auditLogOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AuditLogOutboxLeaseRepository auditLogOutboxLeaseRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactoryBuilder entityManagerFactoryBuilder;
+
+    // Events, as employee id and version, in the order they were handed to the producer
+    private final List<String> sent = new ArrayList<>();
+
+    // Events in the order the broker acknowledged them
+    private final List<String> acknowledged = new ArrayList<>();
+
+    // Called with each event handed to the producer, before it is acknowledged
+    private Consumer<String> onSend = event -> { };
+
+    @AfterEach
+    void tearDown() {
+        auditLogOutboxRepository.deleteAll();
+        auditLogOutboxLeaseRepository.deleteAll();
+    }
+
+    @Test
+    void testRelay_DeletesDeliveredPrefixAndResendsTheRestAfterRestart() throws Exception {
+        // Arrange
+        record("1.1", "2.1", "3.1");
+
+        // Act
+        relay(Set.of("2.1")).relay();
+        List<String> pending = pending();
+        relay(Set.of()).relay();
+
+        // Assert
+        assertThat(pending).containsExactly("2.1", "3.1");
+        assertThat(sent).containsExactly("1.1", "2.1", "3.1", "2.1", "3.1");
+        assertThat(auditLogOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    void testRelay_SendsNothingMoreWhileTheFirstEntryFails() throws Exception {
+        // Arrange
+        record("1.1", "2.1", "3.1");
+
+        // Act
+        relay(Set.of("1.1")).relay();
+
+        // Assert
+        assertThat(sent).containsExactly("1.1");
+        assertThat(pending()).containsExactly("1.1", "2.1", "3.1");
+    }
+
+    @Test
+    void testRelay_KeepsTheOrderOfEachEmployeesEvents() throws Exception {
+        // Arrange
+        record("1.1", "2.1", "1.2", "2.2", "1.3");
+
+        // Act
+        relay(Set.of("2.1")).relay();
+        relay(Set.of()).relay();
+
+        // Assert
+        assertThat(lastAcknowledged("1")).containsExactly("1.1", "1.2", "1.3");
+        assertThat(lastAcknowledged("2")).containsExactly("2.1", "2.2");
+        assertThat(auditLogOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    void testRelay_KeepsTheOrderOfEachEmployeesEventsRecordedOnDifferentNodes() throws Exception {
+        // Arrange: each node has its own entity manager factory, as it would hold its own block of a pooled sequence
+        LocalContainerEntityManagerFactoryBean otherNode = entityManagerFactoryBuilder.dataSource(dataSource)
+                .packages(AuditLogOutbox.class)
+                .persistenceUnit("other-node")
+                .properties(Map.of("hibernate.hbm2ddl.auto", "none"))
+                .build();
+        otherNode.afterPropertiesSet();
+        try {
+            record("2.1");
+            record(otherNode.getObject(), "1.1");
+            record("1.2");
+
+            // Act
+            relay(Set.of()).relay();
+        } finally {
+            otherNode.destroy();
+        }
+
+        // Assert
+        assertThat(sent).containsExactly("2.1", "1.1", "1.2");
+        assertThat(auditLogOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    void testRelay_SendsNothingUntilTheLeaseOfAnotherNodeExpires() throws Exception {
+        // Arrange
+        record("1.1", "2.1");
+        lease(OTHER_NODE_ID, LocalDateTime.now().plusMinutes(1));
+
+        // Act
+        relay(Set.of()).relay();
+        List<String> pending = pending();
+        lease(OTHER_NODE_ID, LocalDateTime.now().minusSeconds(1));
+        relay(Set.of()).relay();
+
+        // Assert
+        assertThat(pending).containsExactly("1.1", "2.1");
+        assertThat(sent).containsExactly("1.1", "2.1");
+        assertThat(auditLogOutboxLeaseRepository.findById(LEASE_NAME)).get()
+                .extracting(AuditLogOutboxLease::getOwner).isEqualTo(NODE_ID);
+    }
+
+    @Test
+    void testRelay_DeletesTheBatchButStopsWhenTheLeaseIsTakenOverWhileSending() throws Exception {
+        // Arrange: a full batch and two more entries, the lease expiring while the first batch is sent
+        List<String> events = new ArrayList<>();
+        for (int i = 1; i <= BATCH_SIZE + 2; i++) {
+            events.add(i + ".1");
+        }
+        record(events.toArray(String[]::new));
+        onSend = event -> {
+            if (event.equals("1.1")) {
+                lease(OTHER_NODE_ID, LocalDateTime.now().plusMinutes(1));
+            }
+        };
+
+        // Act
+        relay(Set.of()).relay();
+
+        // Assert
+        assertThat(sent).containsExactlyElementsOf(events.subList(0, BATCH_SIZE));
+        assertThat(pending()).containsExactlyElementsOf(events.subList(BATCH_SIZE, BATCH_SIZE + 2));
+    }
+
+    private void lease(String owner, LocalDateTime expiresAt) {
+        auditLogOutboxLeaseRepository.save(AuditLogOutboxLease.builder().name(LEASE_NAME).owner(owner).expiresAt(expiresAt).build());
+    }
+
+    /**
+     * @param events the events to record, as employee id and version
+     */
+    private void record(String... events) throws Exception {
+        auditLogOutboxRepository.saveAll(entries(events));
+    }
+
+    /**
+     * Records events through another entity manager factory, standing for another node.
+     *
+     * @param events the events to record, as employee id and version
+     */
+    private void record(EntityManagerFactory node, String... events) throws Exception {
+        EntityManager entityManager = node.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            entries(events).forEach(entityManager::persist);
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private List<AuditLogOutbox> entries(String... events) throws Exception {
+        List<AuditLogOutbox> entries = new ArrayList<>();
+        for (String event : events) {
+            String[] idAndVersion = event.split("\\.");
+            AuditLogEvent auditLogEvent = AuditLogEvent.builder()
+                    .operation("UPDATE")
+                    .timestamp(LocalDateTime.now())
+                    .entityId(Long.valueOf(idAndVersion[0]))
+                    .changes(List.of(new FieldChange("phone", null, idAndVersion[1])))
+                    .build();
+            entries.add(AuditLogOutbox.builder()
+                    .payload(objectMapper.writeValueAsString(auditLogEvent))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return entries;
+    }
+
+    private List<String> pending() throws Exception {
+        List<String> events = new ArrayList<>();
+        for (AuditLogOutbox entry : auditLogOutboxRepository.findAll(Sort.by("id"))) {
+            events.add(label(objectMapper.readValue(entry.getPayload(), AuditLogEvent.class)));
+        }
+        return events;
+    }
+
+    /**
+     * @return the events of an employee in the order of their last acknowledgement, the order in which
+     *         a consumer applying every record ends up with them
+     */
+    private List<String> lastAcknowledged(String employeeId) {
+        LinkedHashSet<String> last = new LinkedHashSet<>();
+        for (String event : acknowledged) {
+            if (event.startsWith(employeeId + ".")) {
+                last.remove(event);
+                last.add(event);
+            }
+        }
+        return List.copyOf(last);
+    }
+
+    private static String label(AuditLogEvent event) {
+        return event.getEntityId() + "." + event.getChanges().get(0).getNewValue();
+    }
+
+    /**
+     * @param failing the events the broker does not acknowledge
+     */
+    @SuppressWarnings("unchecked")
+    private AuditLogOutboxRelay relay(Set<String> failing) {
+        KafkaProducer<String, AuditLogEvent> producer = mock(KafkaProducer.class);
+        when(producer.send(any(), any())).thenAnswer(invocation -> {
+            ProducerRecord<String, AuditLogEvent> record = invocation.getArgument(0);
+            Callback callback = invocation.getArgument(1);
+            String event = label(record.value());
+            sent.add(event);
+            onSend.accept(event);
+            if (failing.contains(event)) {
+                TimeoutException exception = new TimeoutException("broker unavailable");
+                callback.onCompletion(null, exception);
+                return CompletableFuture.failedFuture(exception);
+            }
+            RecordMetadata metadata = new RecordMetadata(new TopicPartition(record.topic(), 0), sent.size(), 0, 0L, 0, 0);
+            acknowledged.add(event);
+            callback.onCompletion(metadata, null);
+            return CompletableFuture.completedFuture(metadata);
+        });
+        return new AuditLogOutboxRelay(auditLogOutboxRepository, auditLogOutboxLeaseRepository, producer, objectMapper,
+                transactionManager, new NodeConfiguration(NODE_ID), new SimpleMeterRegistry(), BATCH_SIZE, 1000, 60000, 5);
+    }
+}
@@ -0,0 +1,107 @@
+package com.info.ems.kafka.producers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.info.ems.kafka.events.AuditLogEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuditLogProducerServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    private AuditLogSpool auditLogSpool;
+
+    // Employee ids of the events handed to the producer, in order
+    private final List<Long> sent = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        auditLogSpool = new AuditLogSpool(directory.resolve("spool.log"), 64 * 1024);
+        for (long employeeId = 1; employeeId <= 3; employeeId++) {
+            AuditLogEvent event = AuditLogEvent.builder()
+                    .operation("DELETE")
+                    .timestamp(LocalDateTime.now())
+                    .entityId(employeeId)
+                    .build();
+            auditLogSpool.append(objectMapper.writeValueAsBytes(event));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditLogSpool.close();
+    }
+
+    @Test
+    void testReplaySpool_SendsNothingMoreWhileTheFirstEventFails() {
+        // Arrange
+        AuditLogProducerService service = service(false);
+
+        // Act
+        service.replaySpool();
+
+        // Assert
+        assertThat(sent).containsExactly(1L);
+        assertThat(auditLogSpool.size()).isEqualTo(3);
+    }
+
+    @Test
+    void testReplaySpool_RemovesEveryAcknowledgedEvent() {
+        // Arrange
+        AuditLogProducerService service = service(true);
+
+        // Act
+        service.replaySpool();
+
+        // Assert
+        assertThat(sent).containsExactly(1L, 2L, 3L);
+        assertThat(auditLogSpool.size()).isZero();
+    }
+
+    /**
+     * @param available whether the broker acknowledges the sends
+     */
+    @SuppressWarnings("unchecked")
+    private AuditLogProducerService service(boolean available) {
+        KafkaProducer<String, AuditLogEvent> producer = mock(KafkaProducer.class);
+        when(producer.send(any(), any())).thenAnswer(invocation -> {
+            ProducerRecord<String, AuditLogEvent> record = invocation.getArgument(0);
+            Callback callback = invocation.getArgument(1);
+            sent.add(record.value().getEntityId());
+            if (!available) {
+                TimeoutException exception = new TimeoutException("broker unavailable");
+                callback.onCompletion(null, exception);
+                return CompletableFuture.failedFuture(exception);
+            }
+            RecordMetadata metadata = new RecordMetadata(new TopicPartition(record.topic(), 0), sent.size(), 0, 0L, 0, 0);
+            callback.onCompletion(metadata, null);
+            return CompletableFuture.completedFuture(metadata);
+        });
+        return new AuditLogProducerService(producer, auditLogSpool, objectMapper, new SimpleMeterRegistry(), 10, 1000);
+    }
+}
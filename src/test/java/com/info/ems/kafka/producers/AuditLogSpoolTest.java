@@ -0,0 +1,77 @@
+package com.info.ems.kafka.producers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditLogSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAcknowledgedRecordsAreRemovedInOrder() {
+        // Arrange
+        AuditLogSpool spool = new AuditLogSpool(directory.resolve("spool.log"), 1024);
+        spool.append(bytes("first"));
+        spool.append(bytes("second"));
+        spool.append(bytes("third"));
+
+        // Act
+        List<byte[]> peeked = spool.peek(2);
+        spool.acknowledge(peeked.subList(0, 1));
+
+        // Assert
+        assertThat(peeked).extracting(AuditLogSpoolTest::string).containsExactly("first", "second");
+        assertThat(spool.size()).isEqualTo(2);
+        assertThat(spool.peek(10)).extracting(AuditLogSpoolTest::string).containsExactly("second", "third");
+    }
+
+    @Test
+    void testRecordsSurviveReopening() {
+        // Arrange
+        Path path = directory.resolve("spool.log");
+        AuditLogSpool spool = new AuditLogSpool(path, 1024);
+        spool.append(bytes("first"));
+        spool.append(bytes("second"));
+        spool.acknowledge(spool.peek(1));
+        spool.close();
+
+        // Act
+        AuditLogSpool reopened = new AuditLogSpool(path, 1024);
+
+        // Assert
+        assertThat(reopened.size()).isEqualTo(1);
+        assertThat(reopened.peek(10)).extracting(AuditLogSpoolTest::string).containsExactly("second");
+    }
+
+    @Test
+    void testFullSpoolRejectsUntilAcknowledgedSpaceIsCompacted() {
+        // Arrange: header (24 bytes) + 4 records of 4 + 20 bytes = 120 bytes
+        AuditLogSpool spool = new AuditLogSpool(directory.resolve("spool.log"), 120);
+        for (int i = 0; i < 4; i++) {
+            assertThat(spool.append(bytes("record-%013d".formatted(i)))).isTrue();
+        }
+
+        // Act & Assert
+        assertThat(spool.append(bytes("record-%013d".formatted(4)))).isFalse();
+        spool.acknowledge(spool.peek(1));
+        assertThat(spool.append(bytes("record-%013d".formatted(4)))).isTrue();
+        assertThat(spool.peek(10)).extracting(AuditLogSpoolTest::string)
+                .containsExactly("record-0000000000001", "record-0000000000002",
+                        "record-0000000000003", "record-0000000000004");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
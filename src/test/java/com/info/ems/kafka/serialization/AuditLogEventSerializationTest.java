@@ -0,0 +1,106 @@
+package com.info.ems.kafka.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import com.info.ems.constants.AuditLogConstants;
+import com.info.ems.constants.AuditLogSerialization;
+import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.kafka.events.EmployeeSnapshot;
+import com.info.ems.kafka.events.EmployeeSnapshot.AddressSnapshot;
+import com.info.ems.kafka.events.FieldChange;
+
+class AuditLogEventSerializationTest {
+
+    private static final String TOPIC = "audit";
+
+    private final AuditLogSchemaRegistry schemaRegistry = new AuditLogSchemaRegistry();
+    private final AuditLogEventDeserializer deserializer =
+            new AuditLogEventDeserializer(schemaRegistry, new JsonDeserializer<>(AuditLogEvent.class, false));
+
+    @Test
+    void testAvroRoundTrip() {
+        // Arrange
+        AuditLogEvent event = event();
+        AuditLogEventSerializer serializer = new AuditLogEventSerializer(AuditLogSerialization.AVRO, schemaRegistry);
+
+        // Act
+        AuditLogEvent result = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, event));
+
+        // Assert
+        assertThat(result).isEqualTo(event);
+    }
+
+    @Test
+    void testJsonEventsAreStillReadable() {
+        // Arrange
+        AuditLogEvent event = event();
+        AuditLogEventSerializer serializer = new AuditLogEventSerializer(AuditLogSerialization.JSON, schemaRegistry);
+
+        // Act
+        AuditLogEvent result = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, event));
+
+        // Assert
+        assertThat(result).isEqualTo(event);
+    }
+
+    @Test
+    void testUpdateWithChangesRoundTrip() {
+        // Arrange
+        AuditLogEvent event = AuditLogEvent.builder()
+                .operation(AuditLogConstants.UPDATE)
+                .timestamp(LocalDateTime.of(2024, 3, 14, 15, 9, 26))
+                .entityId(42L)
+                .changes(List.of(new FieldChange("phone", "+1-202-555-0143", "+1-202-555-0199"),
+                        new FieldChange("addresses[9].city", null, "Ogdenville")))
+                .build();
+        AuditLogEventSerializer serializer = new AuditLogEventSerializer(AuditLogSerialization.AVRO, schemaRegistry);
+
+        // Act
+        byte[] bytes = serializer.serialize(TOPIC, event);
+        AuditLogEvent result = deserializer.deserialize(TOPIC, bytes);
+
+        // Assert
+        assertThat(result).isEqualTo(event);
+        assertThat(bytes.length).isLessThan(serializer.serialize(TOPIC, event()).length);
+    }
+
+    @Test
+    void testAvroIsSmallerThanJson() {
+        // Arrange
+        AuditLogEvent event = event();
+
+        // Act
+        byte[] avro = new AuditLogEventSerializer(AuditLogSerialization.AVRO, schemaRegistry).serialize(TOPIC, event);
+        byte[] json = new AuditLogEventSerializer(AuditLogSerialization.JSON, schemaRegistry).serialize(TOPIC, event);
+
+        // Assert
+        assertThat(avro.length).isLessThan(json.length / 2);
+    }
+
+    private static AuditLogEvent event() {
+        return AuditLogEvent.builder()
+                .operation(AuditLogConstants.CREATE)
+                .timestamp(LocalDateTime.of(2024, 3, 14, 15, 9, 26, 535_897_000))
+                .entityId(42L)
+                .details(EmployeeSnapshot.builder()
+                        .id(42L)
+                        .name("Jane Doe")
+                        .email("jane.doe@example.com")
+                        .phone("+1-202-555-0143")
+                        .hireDate(LocalDate.of(2021, 6, 1))
+                        .addresses(List.of(
+                                AddressSnapshot.builder().id(7L).street("1 Main St").city("Springfield")
+                                        .state("IL").postalCode("62701").build(),
+                                AddressSnapshot.builder().id(8L).street("9 Elm St").city("Shelbyville")
+                                        .state("IL").postalCode("62565").build()))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.info.ems.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Closed-model load test: a fixed number of concurrent clients each send employee reads back to back, for
+ * each configured client count. The read cache is disabled, so every request holds a request thread while
+ * it waits for JDBC. Run by {@link PlatformThreadLoadTest} and {@link VirtualThreadLoadTest} to compare the
+ * throughput and tail latency of the two execution modes.
+ * <pre>
+ * mvn test -Pload-test -Dtest='*ThreadLoadTest' -Dems.loadtest.clients=1000,5000,10000
+ * </pre>
+ */
+@TestPropertySource(properties = "spring.cache.type=none")
+abstract class AbstractConcurrentClientsLoadTest extends AbstractLoadTest {
+
+    @Value("${ems.loadtest.clients:1000,5000,10000}")
+    private String clients;
+
+    @Value("${ems.loadtest.warmup:10s}")
+    private Duration warmup;
+
+    @Value("${ems.loadtest.duration:30s}")
+    private Duration duration;
+
+    @Value("${ems.loadtest.employees:1000}")
+    private int employees;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final EmployeeIdPool employeeIds = new EmployeeIdPool();
+
+    @Test
+    void testConcurrentClients() throws Exception {
+        // Arrange
+        for (int i = 0; i < employees; i++) {
+            employeeIds.add(client.employeeId(client.create(EmployeeApiClient.employee("clients-" + i + "@example.com"))));
+        }
+        List<Integer> clientCounts = new ArrayList<>();
+        for (String count : clients.split(",")) {
+            clientCounts.add(Integer.parseInt(count.trim()));
+        }
+        run(clientCounts.get(0), warmup, new LatencyRecorder(), "warmup");
+
+        // Act
+        StringBuilder report = new StringBuilder();
+        for (int clientCount : clientCounts) {
+            LatencyRecorder latencyRecorder = new LatencyRecorder();
+            String series = clientCount + " clients";
+            run(clientCount, duration, latencyRecorder, series);
+            report.append(latencyRecorder.report(
+                    String.format("%s threads, %d clients, %s", virtualThreads ? "virtual" : "platform", clientCount, duration),
+                    duration));
+
+            // Assert
+            assertThat(latencyRecorder.count(series)).as(series).isPositive();
+        }
+        writeReport(getClass().getSimpleName(), report.toString());
+    }
+
+    private void run(int clientCount, Duration period, LatencyRecorder latencyRecorder, String series) {
+        long deadline = System.nanoTime() + period.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clientCount; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = client.get(employeeIds.random());
+                            latencyRecorder.record(series, System.nanoTime() - start);
+                            if (response.statusCode() != 200) {
+                                latencyRecorder.error(series);
+                            }
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception ex) {
+                            latencyRecorder.error(series);
+                        }
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.info.ems.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Starts the whole application on a random port with an embedded KRaft Kafka broker and an in-memory H2
+ * database in MySQL mode, so that load tests go through HTTP, JPA and Kafka exactly as in production.
+ * <p>
+ * Load tests are tagged {@code load} and only run with the {@code load-test} Maven profile. Their settings
+ * are {@code ems.loadtest.*} properties, which can be given as system properties.
+ * </p>
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "kafka.url=${spring.embedded.kafka.brokers}",
+        "spring.datasource.url=jdbc:h2:mem:${random.uuid};MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "server.tomcat.max-connections=20000",
+        "server.tomcat.accept-count=1000",
+        // Console logging would dominate (and, with virtual threads, serialize) the measured requests
+        "logging.level.root=warn",
+        "logging.level.com.info.ems=warn"
+})
+@EmbeddedKafka(kraft = true, partitions = 6)
+abstract class AbstractLoadTest {
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load-tests");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    protected EmployeeApiClient client;
+
+    @BeforeEach
+    void setUpClient() {
+        client = new EmployeeApiClient(port, objectMapper);
+    }
+
+    /**
+     * Prints a report and keeps it under {@code target/load-tests}, to compare runs.
+     *
+     * @param name   the file name of the report, without extension
+     * @param report the report
+     */
+    protected static void writeReport(String name, String report) throws IOException {
+        System.out.println(report);
+        Files.createDirectories(REPORT_DIRECTORY);
+        Files.writeString(REPORT_DIRECTORY.resolve(name + ".txt"), report);
+    }
+}
@@ -0,0 +1,86 @@
+package com.info.ems.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.info.ems.dtos.request.CreateAddress;
+import com.info.ems.dtos.request.CreateEmployee;
+
+/**
+ * Blocking HTTP client for the {@code EmployeeController} endpoints, meant to be called from virtual threads.
+ */
+class EmployeeApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    EmployeeApiClient(int port, ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.objectMapper = objectMapper;
+        this.baseUrl = "http://localhost:" + port + "/api/v1/ems";
+    }
+
+    HttpResponse<String> create(CreateEmployee employee) throws IOException, InterruptedException {
+        return send(request("/create-employee").POST(body(employee)));
+    }
+
+    HttpResponse<String> get(Long id) throws IOException, InterruptedException {
+        return send(request("/" + id).GET());
+    }
+
+    HttpResponse<String> update(Long id, CreateEmployee employee) throws IOException, InterruptedException {
+        return send(request("/" + id).PUT(body(employee)));
+    }
+
+    HttpResponse<String> delete(Long id) throws IOException, InterruptedException {
+        return send(request("/" + id).DELETE());
+    }
+
+    /**
+     * Reads the employee ID from a create or update response.
+     */
+    Long employeeId(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body()).path("data").path("data").path("id").asLong();
+    }
+
+    static CreateEmployee employee(String email) {
+        return CreateEmployee.builder()
+                .name("Load Test")
+                .email(email)
+                .phone("9876543210")
+                .addresses(List.of(CreateAddress.builder().street("1 Main St").city("Ahmedabad").state("Gujarat")
+                        .postalCode("380001").build()))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private HttpRequest.BodyPublisher body(Object value) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(value));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
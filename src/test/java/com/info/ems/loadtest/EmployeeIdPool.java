@@ -0,0 +1,40 @@
+package com.info.ems.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * IDs of the employees that exist, from which the load generators pick their targets.
+ */
+class EmployeeIdPool {
+
+    private final List<Long> ids = new ArrayList<>();
+
+    synchronized void add(Long id) {
+        ids.add(id);
+    }
+
+    /**
+     * @return a random existing ID, or {@code null} if there is none
+     */
+    synchronized Long random() {
+        return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    /**
+     * Removes a random ID, so that no other request picks an employee that is about to be deleted.
+     *
+     * @return the removed ID, or {@code null} if there is none
+     */
+    synchronized Long removeRandom() {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        int index = ThreadLocalRandom.current().nextInt(ids.size());
+        Long id = ids.get(index);
+        ids.set(index, ids.get(ids.size() - 1));
+        ids.remove(ids.size() - 1);
+        return id;
+    }
+}
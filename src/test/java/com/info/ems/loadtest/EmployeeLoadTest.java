@@ -0,0 +1,220 @@
+package com.info.ems.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+
+import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.services.AuditLogService;
+
+/**
+ * Open-model load test of the employee endpoints: requests of a configurable create/get/update/delete mix
+ * arrive at a fixed rate, whether or not earlier requests have completed, and each latency is measured from
+ * the intended start of its request so that a stalled server is not hidden by a stalled client.
+ * <p>
+ * Besides the per-endpoint latency it reports the audit lag: the time from the audit log event being
+ * created in {@code EmployeeServiceImpl} to the commit of its audit log in {@code AuditLogServiceImpl}.
+ * </p>
+ * <pre>
+ * mvn test -Pload-test -Dtest=EmployeeLoadTest -Dems.loadtest.rate=500 -Dems.loadtest.duration=60s
+ * </pre>
+ */
+class EmployeeLoadTest extends AbstractLoadTest {
+
+    private static final String AUDIT_LAG = "audit lag";
+
+    @Value("${ems.loadtest.rate:200}")
+    private int rate;
+
+    @Value("${ems.loadtest.duration:30s}")
+    private Duration duration;
+
+    @Value("${ems.loadtest.employees:1000}")
+    private int employees;
+
+    // Relative weights of the operations
+    @Value("${ems.loadtest.mix:create=40,get=40,update=15,delete=5}")
+    private String mix;
+
+    @Autowired
+    private LatencyRecorder latencyRecorder;
+
+    private final EmployeeIdPool employeeIds = new EmployeeIdPool();
+    private final AtomicLong emails = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+
+    @Test
+    void testOpenModelMix() throws Exception {
+        // Arrange
+        long auditLogsBefore = latencyRecorder.count(AUDIT_LAG);
+        for (int i = 0; i < employees; i++) {
+            employeeIds.add(client.employeeId(client.create(EmployeeApiClient.employee(nextEmail()))));
+        }
+        OperationMix operations = OperationMix.parse(mix);
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long requests = duration.toSeconds() * rate;
+
+        // Act
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                long intendedStart = start + i * interval;
+                for (long wait = intendedStart - System.nanoTime(); wait > 0; wait = intendedStart - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = operations.next();
+                executor.submit(() -> execute(operation, intendedStart));
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Wait for the audit logs of every write
+        long expectedAuditLogs = auditLogsBefore + employees + writes.get();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while (latencyRecorder.count(AUDIT_LAG) < expectedAuditLogs && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        writeReport(getClass().getSimpleName(), latencyRecorder.report(
+                String.format("%d req/s for %s, mix %s", rate, duration, mix), elapsed));
+
+        // Assert
+        for (Operation operation : Operation.values()) {
+            assertThat(latencyRecorder.errors(operation.series())).as(operation.series()).isZero();
+        }
+        assertThat(latencyRecorder.count(AUDIT_LAG)).isEqualTo(expectedAuditLogs);
+    }
+
+    private void execute(Operation operation, long intendedStart) {
+        try {
+            HttpResponse<String> response = switch (operation) {
+                case CREATE -> client.create(EmployeeApiClient.employee(nextEmail()));
+                case GET -> client.get(employeeIds.random());
+                case UPDATE -> client.update(employeeIds.random(), EmployeeApiClient.employee(nextEmail()));
+                case DELETE -> client.delete(employeeIds.removeRandom());
+            };
+            latencyRecorder.record(operation.series(), System.nanoTime() - intendedStart);
+
+            HttpStatus status = HttpStatus.valueOf(response.statusCode());
+            if (status.is2xxSuccessful()) {
+                if (operation == Operation.CREATE) {
+                    employeeIds.add(client.employeeId(response));
+                }
+                if (operation != Operation.GET) {
+                    writes.incrementAndGet();
+                }
+            } else if (status != HttpStatus.NOT_FOUND) {
+                // Not found is expected when a get or update races the delete of the same employee
+                latencyRecorder.error(operation.series());
+            }
+        } catch (Exception ex) {
+            latencyRecorder.error(operation.series());
+        }
+    }
+
+    private String nextEmail() {
+        return "load-test-" + emails.incrementAndGet() + "@example.com";
+    }
+
+    enum Operation {
+        CREATE, GET, UPDATE, DELETE;
+
+        String series() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Weighted random choice of the next operation.
+     */
+    record OperationMix(List<Operation> operations, int[] cumulativeWeights) {
+
+        static OperationMix parse(String mix) {
+            List<Operation> operations = new ArrayList<>();
+            int[] cumulativeWeights = new int[Operation.values().length];
+            int total = 0;
+            for (String entry : mix.split(",")) {
+                String[] operationAndWeight = entry.trim().split("=");
+                total += Integer.parseInt(operationAndWeight[1].trim());
+                cumulativeWeights[operations.size()] = total;
+                operations.add(Operation.valueOf(operationAndWeight[0].trim().toUpperCase(Locale.ROOT)));
+            }
+            return new OperationMix(operations, cumulativeWeights);
+        }
+
+        Operation next() {
+            int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[operations.size() - 1]);
+            int index = 0;
+            while (value >= cumulativeWeights[index]) {
+                index++;
+            }
+            return operations.get(index);
+        }
+    }
+
+    @TestConfiguration
+    static class AuditLagConfiguration {
+
+        @Bean
+        LatencyRecorder latencyRecorder() {
+            return new LatencyRecorder();
+        }
+
+        /**
+         * Wraps the (transactional) audit log service, so that audit logs are timed once their transaction
+         * has committed.
+         */
+        @Bean
+        static BeanPostProcessor auditLagRecordingPostProcessor(ObjectProvider<LatencyRecorder> latencyRecorder) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof AuditLogService auditLogService)) {
+                        return bean;
+                    }
+                    return Proxy.newProxyInstance(AuditLogService.class.getClassLoader(), new Class<?>[]{AuditLogService.class},
+                            (proxy, method, args) -> {
+                                Object result;
+                                try {
+                                    result = method.invoke(auditLogService, args);
+                                } catch (InvocationTargetException ex) {
+                                    throw ex.getCause();
+                                }
+                                List<?> events = switch (method.getName()) {
+                                    case "createAuditLog" -> List.of(args[0]);
+                                    case "createAuditLogs" -> (List<?>) args[0];
+                                    default -> List.of();
+                                };
+                                LocalDateTime committed = LocalDateTime.now();
+                                for (Object event : events) {
+                                    latencyRecorder.getObject().record(AUDIT_LAG,
+                                            Duration.between(((AuditLogEvent) event).getTimestamp(), committed).toNanos());
+                                }
+                                return result;
+                            });
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.info.ems.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms and error counts of the load tests, one per named series (an endpoint, a client count,
+ * the audit log lag).
+ */
+class LatencyRecorder {
+
+    // Latencies above this are recorded as this value
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String series, long nanos) {
+        long micros = Math.max(0, Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+        histograms.computeIfAbsent(series, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3))
+                .recordValue(micros);
+    }
+
+    void error(String series) {
+        errors.computeIfAbsent(series, key -> new LongAdder()).increment();
+    }
+
+    long count(String series) {
+        Histogram histogram = histograms.get(series);
+        return histogram == null ? 0 : histogram.getTotalCount();
+    }
+
+    long errors(String series) {
+        LongAdder adder = errors.get(series);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Formats the percentiles of every series as a table.
+     *
+     * @param title   the heading of the table
+     * @param elapsed the measured period, used for the per-second rates
+     * @return the table
+     */
+    String report(String title, Duration elapsed) {
+        StringBuilder report = new StringBuilder(title).append(System.lineSeparator());
+        report.append(String.format("%-16s %10s %8s %10s %10s %10s %10s %10s%n",
+                "series", "count", "errors", "per sec", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            Histogram histogram = entry.getValue().copy();
+            report.append(String.format("%-16s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    errors(entry.getKey()),
+                    histogram.getTotalCount() * 1000.0 / Math.max(1, elapsed.toMillis()),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())));
+        }
+        return report.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
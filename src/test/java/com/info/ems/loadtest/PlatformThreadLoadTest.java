@@ -0,0 +1,10 @@
+package com.info.ems.loadtest;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Concurrent clients against the default Tomcat request thread pool.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadTest extends AbstractConcurrentClientsLoadTest {
+}
@@ -0,0 +1,10 @@
+package com.info.ems.loadtest;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Concurrent clients against virtual request threads, with connection checkouts limited by the semaphore.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadLoadTest extends AbstractConcurrentClientsLoadTest {
+}
@@ -0,0 +1,97 @@
+package com.info.ems.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class SamplingTurboFilterTest {
+
+    private static final String SAMPLED_LOGGER = "com.info.ems.kafka.consumers";
+
+    private LoggerContext context;
+    private SamplingTurboFilter filter;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setLogger(SAMPLED_LOGGER);
+        filter.setRate(10);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+    }
+
+    @Test
+    void testDecide_LogsOneInRateEvents() {
+        // Arrange
+        Logger logger = context.getLogger(SAMPLED_LOGGER + ".AuditLogConsumerService");
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            if (logger.isInfoEnabled()) {
+                logger.info("Consuming {} auditLogEvents", i);
+            }
+        }
+
+        // Assert
+        assertThat(appender.list).hasSize(10);
+        assertThat(appender.list.get(0).getFormattedMessage()).isEqualTo("Consuming 0 auditLogEvents");
+        assertThat(appender.list.get(1).getFormattedMessage()).isEqualTo("Consuming 10 auditLogEvents");
+        assertThat(filter.getSampledOutCount()).isEqualTo(90);
+    }
+
+    @Test
+    void testDecide_KeepsSevereEventsAndOtherLoggers() {
+        // Arrange
+        Logger sampled = context.getLogger(SAMPLED_LOGGER + ".AuditLogConsumerService");
+        Logger sibling = context.getLogger(SAMPLED_LOGGER + "Other");
+        Logger other = context.getLogger("com.info.ems.services.impl.EmployeeServiceImpl");
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            sampled.warn("Failed batch {}", i);
+            sampled.debug("Disabled, never counted {}", i);
+            sibling.info("Sibling {}", i);
+            other.info("Other {}", i);
+        }
+
+        // Assert
+        assertThat(appender.list).hasSize(60);
+        assertThat(filter.getSampledOutCount()).isZero();
+    }
+
+    @Test
+    void testStart_RequiresLoggerAndPositiveRate() {
+        // Arrange
+        SamplingTurboFilter withoutLogger = new SamplingTurboFilter();
+        withoutLogger.setContext(context);
+        SamplingTurboFilter withoutRate = new SamplingTurboFilter();
+        withoutRate.setContext(context);
+        withoutRate.setLogger(SAMPLED_LOGGER);
+        withoutRate.setRate(0);
+
+        // Act
+        withoutLogger.start();
+        withoutRate.start();
+
+        // Assert
+        assertThat(withoutLogger.isStarted()).isFalse();
+        assertThat(withoutRate.isStarted()).isFalse();
+    }
+}
@@ -0,0 +1,61 @@
+package com.info.ems.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.info.ems.models.AuditLogDailyRollup;
+
+/**
+ * Runs the native rollup upsert against H2 in MySQL mode, which understands {@code on duplicate key update}.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rollup;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AuditLogDailyRollupRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+    @Autowired
+    private AuditLogDailyRollupRepository auditLogDailyRollupRepository;
+
+    @Test
+    void testIncrement_CreatesTheRowThenAddsToIt() {
+        // Act
+        auditLogDailyRollupRepository.increment(DAY, "CREATE", 2L);
+        auditLogDailyRollupRepository.increment(DAY, "CREATE", 3L);
+        auditLogDailyRollupRepository.increment(DAY, "DELETE", 1L);
+        auditLogDailyRollupRepository.increment(DAY.plusDays(1), "CREATE", 4L);
+
+        // Assert
+        List<AuditLogDailyRollup> rollups = auditLogDailyRollupRepository.findRange(DAY, DAY.plusDays(2), null);
+        assertThat(rollups)
+                .extracting(rollup -> rollup.getId().getDay() + " " + rollup.getId().getOperation() + " " + rollup.getEventCount())
+                .containsExactly("2024-03-01 CREATE 5", "2024-03-01 DELETE 1", "2024-03-02 CREATE 4");
+    }
+
+    @Test
+    void testFindRange_FiltersByOperationAndExcludesTheLastDay() {
+        // Arrange
+        auditLogDailyRollupRepository.increment(DAY, "CREATE", 2L);
+        auditLogDailyRollupRepository.increment(DAY, "DELETE", 1L);
+        auditLogDailyRollupRepository.increment(DAY.plusDays(1), "CREATE", 4L);
+
+        // Act
+        List<AuditLogDailyRollup> rollups = auditLogDailyRollupRepository.findRange(DAY, DAY.plusDays(1), "CREATE");
+
+        // Assert
+        assertThat(rollups).extracting(AuditLogDailyRollup::getEventCount).containsExactly(2L);
+    }
+}
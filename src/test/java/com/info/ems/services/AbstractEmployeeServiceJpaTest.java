@@ -0,0 +1,90 @@
+package com.info.ems.services;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import com.info.ems.cache.EmployeeCacheInvalidator;
+import com.info.ems.cache.EmployeeEmailFilter;
+import com.info.ems.mapper.AddressMapperImpl;
+import com.info.ems.mapper.EmployeeMapperImpl;
+import com.info.ems.models.Address;
+import com.info.ems.models.Employee;
+import com.info.ems.services.impl.EmployeeExportServiceImpl;
+import com.info.ems.services.impl.EmployeeServiceImpl;
+
+/**
+ * Runs the employee and export services against an H2 database, with the audit log, the cache and the email filter mocked.
+ * <p>
+ * Subclasses share one application context, which records every SQL statement and keeps Hibernate statistics.
+ * </p>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.info.ems.services.AbstractEmployeeServiceJpaTest$RecordingStatementInspector"
+})
+@Import({EmployeeServiceImpl.class, EmployeeExportServiceImpl.class, EmployeeMapperImpl.class, AddressMapperImpl.class,
+        JacksonAutoConfiguration.class})
+abstract class AbstractEmployeeServiceJpaTest {
+
+    @Autowired
+    protected EmployeeService employeeService;
+
+    @Autowired
+    protected TestEntityManager testEntityManager;
+
+    @MockBean
+    protected AuditLogOutboxService auditLogOutboxService;
+
+    @MockBean
+    protected EmployeeCacheInvalidator employeeCacheInvalidator;
+
+    @MockBean
+    protected EmployeeEmailFilter employeeEmailFilter;
+
+    /**
+     * Persists an employee named "Employee {index}" with the email "employee{index}@example.com", the phone
+     * "555-000{index}" and addresses "{j} Main St", "City", "State", "1000{j}".
+     *
+     * @param index     the index the employee's fields are derived from
+     * @param addresses the number of addresses to give the employee
+     * @return the persisted employee, not yet flushed
+     */
+    protected Employee persistEmployee(int index, int addresses) {
+        List<Address> employeeAddresses = new ArrayList<>();
+        for (int j = 0; j < addresses; j++) {
+            employeeAddresses.add(Address.builder().street(j + " Main St").city("City").state("State").postalCode("1000" + j).build());
+        }
+        return testEntityManager.persist(Employee.builder()
+                .name("Employee " + index)
+                .email("employee" + index + "@example.com")
+                .phone("555-000" + index)
+                .hireDate(LocalDate.now())
+                .addresses(employeeAddresses)
+                .build());
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
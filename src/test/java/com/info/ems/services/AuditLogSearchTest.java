@@ -0,0 +1,116 @@
+package com.info.ems.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.info.ems.contollers.AuditLogController;
+import com.info.ems.dtos.response.AuditLogPageResponseDto;
+import com.info.ems.dtos.response.AuditLogResponseDto;
+import com.info.ems.exceptions.GlobalExceptionHandler;
+import com.info.ems.mapper.AuditLogMapperImpl;
+import com.info.ems.models.AuditLog;
+import com.info.ems.services.impl.AuditLogServiceImpl;
+
+/**
+ * Pages through the audit log with {@link AuditLogService#searchAuditLogs} against the real keyset query.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({AuditLogServiceImpl.class, AuditLogMapperImpl.class})
+class AuditLogSearchTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    // Ids of the entries sharing the NOON timestamp, in insertion order
+    private final List<Long> noonIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            noonIds.add(persist(1L, i == 0 ? "CREATE" : "UPDATE", NOON));
+        }
+        persist(2L, "CREATE", NOON.minusHours(1));
+        persist(2L, "DELETE", NOON.plusHours(1));
+        persist(3L, "UPDATE", NOON.minusDays(1));
+        testEntityManager.clear();
+    }
+
+    @Test
+    void testSearchAuditLogs_PagesThroughEntriesWithTheSameTimestampByIdWithoutGapsOrDuplicates() {
+        // Act
+        List<AuditLogResponseDto> seen = new ArrayList<>();
+        List<Boolean> hasMore = new ArrayList<>();
+        String cursor = null;
+        do {
+            AuditLogPageResponseDto page = auditLogService.searchAuditLogs(null, null, null, null, cursor, 2);
+            seen.addAll(page.getAuditLogs());
+            hasMore.add(page.isHasMore());
+            cursor = page.getNextCursor();
+        } while (hasMore.get(hasMore.size() - 1));
+
+        // Assert
+        assertThat(seen).hasSize(8).extracting(AuditLogResponseDto::getTimestamp).isSortedAccordingTo((a, b) -> b.compareTo(a));
+        assertThat(seen).filteredOn(entry -> entry.getTimestamp().equals(NOON))
+                .extracting(AuditLogResponseDto::getId)
+                .containsExactlyElementsOf(noonIds.reversed());
+        assertThat(hasMore).containsExactly(true, true, true, false);
+    }
+
+    @Test
+    void testSearchAuditLogs_AppliesEveryFilter() {
+        // Act
+        AuditLogPageResponseDto byEmployee = auditLogService.searchAuditLogs(2L, null, null, null, null, 10);
+        AuditLogPageResponseDto byOperation = auditLogService.searchAuditLogs(null, "update", null, null, null, 10);
+        AuditLogPageResponseDto byTime = auditLogService.searchAuditLogs(null, null, NOON, NOON.plusHours(1), null, 10);
+
+        // Assert
+        assertThat(byEmployee.getAuditLogs()).extracting(AuditLogResponseDto::getOperation).containsExactly("DELETE", "CREATE");
+        assertThat(byOperation.getAuditLogs()).hasSize(5).allMatch(entry -> entry.getOperation().equals("UPDATE"));
+        // from is inclusive and to exclusive
+        assertThat(byTime.getAuditLogs()).hasSize(5).allMatch(entry -> entry.getTimestamp().equals(NOON));
+        assertThat(byTime.isHasMore()).isFalse();
+    }
+
+    @Test
+    void testSearchAuditLogs_RejectsAMalformedCursorWithABadRequest() throws Exception {
+        // Arrange
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AuditLogController(auditLogService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        // Act & Assert
+        for (String cursor : List.of("garbage", "2024-03-01T12:00_abc", "_1")) {
+            mockMvc.perform(get("/api/v1/audit-logs").param("cursor", cursor))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Invalid cursor, pass the nextCursor of the previous page."));
+        }
+    }
+
+    private Long persist(Long entityId, String operation, LocalDateTime timestamp) {
+        return testEntityManager.persistAndFlush(AuditLog.builder()
+                .entityId(entityId)
+                .operation(operation)
+                .timestamp(timestamp)
+                .build()).getId();
+    }
+}
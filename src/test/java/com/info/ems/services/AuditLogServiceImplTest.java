@@ -4,9 +4,12 @@ import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.*;
 
 import com.info.ems.kafka.events.AuditLogEvent;
+import com.info.ems.kafka.events.EmployeeSnapshot;
 import com.info.ems.mapper.AuditLogMapper;
 import com.info.ems.models.AuditLog;
+import com.info.ems.repositories.AuditLogDailyRollupRepository;
 import com.info.ems.repositories.AuditLogRepository;
+import com.info.ems.services.impl.AuditLogServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,31 +19,47 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 
+import jakarta.persistence.EntityManager;
+
 @ExtendWith(MockitoExtension.class)
 public class AuditLogServiceImplTest {
 
     @Mock
     private AuditLogRepository auditLogRepository;
 
+    @Mock
+    private AuditLogDailyRollupRepository auditLogDailyRollupRepository;
+
     @Mock
     private AuditLogMapper auditLogMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
-    private AuditLogService auditLogService;
+    private AuditLogServiceImpl auditLogService;
 
     private AuditLogEvent auditLogEvent;
     private AuditLog auditLogEntity;
+    private EmployeeSnapshot employeeSnapshot;
 
     @BeforeEach
     public void setUp() {
+        employeeSnapshot = EmployeeSnapshot.builder().id(1L).name("John Doe").email("john.doe@example.com").build();
+
         // Mock the audit log event that will be passed to the service
-        auditLogEvent = new AuditLogEvent("CREATE", LocalDateTime.now(), "Employee Created");
+        auditLogEvent = AuditLogEvent.builder()
+                .operation("CREATE")
+                .timestamp(LocalDateTime.now())
+                .entityId(employeeSnapshot.getId())
+                .details(employeeSnapshot)
+                .build();
 
         // Mock the audit log entity that will be returned after saving
         auditLogEntity = new AuditLog();
-        auditLogEntity.setEvent("CREATE");
+        auditLogEntity.setOperation("CREATE");
         auditLogEntity.setTimestamp(auditLogEvent.getTimestamp());
-        auditLogEntity.setDetails("Employee Created");
+        auditLogEntity.setDetails(employeeSnapshot);
 
         // Mock the mapper to return the AuditLog entity from the event
         when(auditLogMapper.toEntity(auditLogEvent)).thenReturn(auditLogEntity);
@@ -57,12 +76,13 @@ public class AuditLogServiceImplTest {
         // Verify the interactions and assert the result
         verify(auditLogMapper).toEntity(auditLogEvent);  // Ensure mapper is called
         verify(auditLogRepository).save(auditLogEntity); // Ensure the entity is saved
+        verify(auditLogDailyRollupRepository).increment(auditLogEvent.getTimestamp().toLocalDate(), "CREATE", 1L);
 
         // Assert that the returned entity matches the expected result
         assertThat(result).isNotNull();
-        assertThat(result.getEvent()).isEqualTo("CREATE");
+        assertThat(result.getOperation()).isEqualTo("CREATE");
         assertThat(result.getTimestamp()).isEqualTo(auditLogEvent.getTimestamp());
-        assertThat(result.getDetails()).isEqualTo("Employee Created");
+        assertThat(result.getDetails()).isEqualTo(employeeSnapshot);
     }
 
     @Test
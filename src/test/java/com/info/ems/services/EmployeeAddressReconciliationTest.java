@@ -0,0 +1,101 @@
+package com.info.ems.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.info.ems.dtos.request.CreateAddress;
+import com.info.ems.dtos.request.CreateEmployee;
+import com.info.ems.dtos.response.AddressResponseDto;
+import com.info.ems.dtos.response.EmployeeResponseDto;
+import com.info.ems.models.Address;
+import com.info.ems.models.Employee;
+import com.info.ems.repositories.AddressRepository;
+
+/**
+ * Checks that updating an employee reconciles its addresses instead of appending the requested ones.
+ */
+class EmployeeAddressReconciliationTest extends AbstractEmployeeServiceJpaTest {
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    private Long employeeId;
+    private List<Long> addressIds;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Employee employee = persistEmployee(0, 3);
+        testEntityManager.flush();
+        testEntityManager.clear();
+        employeeId = employee.getId();
+        addressIds = employee.getAddresses().stream().map(Address::getId).toList();
+
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testRepeatedIdenticalUpdatesKeepAddressRowsConstant() {
+        // Arrange
+        CreateEmployee request = request(address(0, "City"), address(1, "City"), address(2, "City"));
+
+        for (int i = 0; i < 5; i++) {
+            statistics.clear();
+
+            // Act
+            EmployeeResponseDto employee = employeeService.updateEmployee(employeeId, request);
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            // Assert: the employee read and the count below, no address writes
+            assertThat(employee.getAddresses()).extracting(AddressResponseDto::getId)
+                    .containsExactlyInAnyOrderElementsOf(addressIds);
+            assertThat(addressRepository.count()).isEqualTo(3);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testChangedAddressesAreUpdatedInPlaceAndRemovedOnesDeleted() {
+        // Arrange: keep the first address, change the second one and drop the third one
+        CreateEmployee request = request(address(0, "City"), address(1, "Other City"));
+        statistics.clear();
+
+        // Act
+        EmployeeResponseDto employee = employeeService.updateEmployee(employeeId, request);
+        testEntityManager.flush();
+
+        // Assert: read, one address update, one address delete
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        testEntityManager.clear();
+        assertThat(addressRepository.findAll())
+                .extracting(Address::getCity)
+                .containsExactlyInAnyOrder("City", "Other City");
+        assertThat(employee.getAddresses()).extracting(AddressResponseDto::getId)
+                .hasSize(2)
+                .contains(addressIds.get(0))
+                .isSubsetOf(addressIds);
+    }
+
+    private static CreateAddress address(int index, String city) {
+        return CreateAddress.builder().street(index + " Main St").city(city).state("State").postalCode("1000" + index).build();
+    }
+
+    private static CreateEmployee request(CreateAddress... addresses) {
+        return CreateEmployee.builder()
+                .name("Employee 0")
+                .email("employee0@example.com")
+                .phone("555-0000")
+                .addresses(new ArrayList<>(List.of(addresses)))
+                .build();
+    }
+}
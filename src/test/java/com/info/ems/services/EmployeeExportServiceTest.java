@@ -0,0 +1,112 @@
+package com.info.ems.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.info.ems.constants.ExportFormat;
+import com.info.ems.dtos.response.AddressResponseDto;
+import com.info.ems.dtos.response.EmployeeResponseDto;
+import com.info.ems.models.Address;
+import com.info.ems.models.Employee;
+
+/**
+ * Streams the employee table through the export cursor, with employees holding several addresses.
+ */
+class EmployeeExportServiceTest extends AbstractEmployeeServiceJpaTest {
+
+    private static final LocalDate HIRE_DATE = LocalDate.of(2024, 3, 1);
+
+    @Autowired
+    private EmployeeExportService employeeExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Employee quoted;
+    private Employee withoutAddresses;
+    private Employee withAddresses;
+
+    @BeforeEach
+    void setUp() {
+        // Separators, quotes and line breaks in the values of the first employee
+        quoted = testEntityManager.persist(Employee.builder()
+                .name("Doe, \"JD\" John")
+                .email("john.doe@example.com")
+                .phone("1234567890")
+                .hireDate(HIRE_DATE)
+                .addresses(List.of(
+                        Address.builder().street("1 Main Street\nApartment 2").city("Springfield").state("IL").postalCode("62701").build(),
+                        Address.builder().street("2 Side Street").city("Shelbyville").state("IL").postalCode("62565").build()))
+                .build());
+        withoutAddresses = persistEmployee(1, 0);
+        withAddresses = persistEmployee(2, 3);
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void testExportEmployees_WritesOneJsonLinePerEmployeeWithAllItsAddresses() throws Exception {
+        // Act
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long exported = employeeExportService.exportEmployees(ExportFormat.NDJSON, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(exported).isEqualTo(3);
+        assertThat(lines).hasSize(4);
+        assertThat(lines[3]).isEmpty();
+        List<EmployeeResponseDto> employees = List.of(
+                objectMapper.readValue(lines[0], EmployeeResponseDto.class),
+                objectMapper.readValue(lines[1], EmployeeResponseDto.class),
+                objectMapper.readValue(lines[2], EmployeeResponseDto.class));
+        assertThat(employees).extracting(EmployeeResponseDto::getId)
+                .containsExactly(quoted.getId(), withoutAddresses.getId(), withAddresses.getId());
+        assertThat(employees.get(0).getName()).isEqualTo("Doe, \"JD\" John");
+        assertThat(employees.get(0).getAddresses()).extracting(AddressResponseDto::getStreet)
+                .containsExactlyInAnyOrder("1 Main Street\nApartment 2", "2 Side Street");
+        assertThat(employees.get(1).getAddresses()).isEmpty();
+        assertThat(employees.get(2).getAddresses()).extracting(AddressResponseDto::getId)
+                .containsExactlyInAnyOrderElementsOf(withAddresses.getAddresses().stream().map(Address::getId).toList());
+        assertThat(managedEntities()).isZero();
+    }
+
+    @Test
+    void testExportEmployees_WritesOneCsvRecordPerAddressQuotingWhereNeeded() throws Exception {
+        // Act
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long exported = employeeExportService.exportEmployees(ExportFormat.CSV, output);
+
+        // Assert
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertThat(exported).isEqualTo(3);
+        assertThat(csv).startsWith("id,name,email,phone,hireDate,addressId,street,city,state,postalCode\n");
+        assertThat(csv).contains(
+                quoted.getId() + ",\"Doe, \"\"JD\"\" John\",john.doe@example.com,1234567890,2024-03-01,"
+                        + quoted.getAddresses().get(0).getId() + ",\"1 Main Street\nApartment 2\",Springfield,IL,62701\n",
+                quoted.getId() + ",\"Doe, \"\"JD\"\" John\",john.doe@example.com,1234567890,2024-03-01,"
+                        + quoted.getAddresses().get(1).getId() + ",2 Side Street,Shelbyville,IL,62565\n",
+                withoutAddresses.getId() + ",Employee 1,employee1@example.com,555-0001," + LocalDate.now() + ",,,,,\n");
+        // Header, two records for the first employee, one for the second and three for the third
+        assertThat(csv.split("\n(?=\\d|$)")).hasSize(7);
+        assertThat(csv.lines().filter(line -> line.startsWith(withAddresses.getId() + ",Employee 2,"))).hasSize(3);
+        assertThat(managedEntities()).isZero();
+    }
+
+    private int managedEntities() {
+        return testEntityManager.getEntityManager().unwrap(Session.class)
+                .unwrap(SessionImplementor.class)
+                .getPersistenceContextInternal()
+                .getNumberOfManagedEntities();
+    }
+}
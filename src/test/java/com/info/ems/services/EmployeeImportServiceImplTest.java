@@ -0,0 +1,183 @@
+package com.info.ems.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import com.info.ems.dtos.request.CreateEmployee;
+import com.info.ems.dtos.response.BulkEmployeeResponseDto;
+import com.info.ems.dtos.response.ImportSummaryResponseDto;
+import com.info.ems.exceptions.InvalidRequestParameterException;
+import com.info.ems.services.impl.EmployeeImportServiceImpl;
+import com.info.ems.utils.CsvUtils;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+class EmployeeImportServiceImplTest {
+
+    private static final String HEADER = "name,email,phone,street,city,state,postalCode\n";
+    private static final int MAX_RECORD_CHARS = 200;
+
+    private static final ValidatorFactory VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
+
+    @TempDir
+    Path rejectedRowsDirectory;
+
+    private EmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        employeeService = mock(EmployeeService.class);
+    }
+
+    @AfterAll
+    static void closeValidatorFactory() {
+        VALIDATOR_FACTORY.close();
+    }
+
+    @Test
+    void testImportEmployees_ImportsValidRowsAndWritesTheOthersToTheRejectedRowsFile() throws Exception {
+        // Arrange
+        when(employeeService.createEmployees(anyList())).thenAnswer(invocation -> results(invocation.getArgument(0)));
+        String csv = HEADER
+                + "John Doe,john.doe@example.com,1234567890,1 Main Street,Springfield,IL,62701\n"
+                + ",missing.name@example.com,1234567890,1 Main Street,Springfield,IL,62701\n"
+                + "Jane Doe,taken@example.com,1234567890,\"2 Main Street\nApartment 3\",Springfield,IL,62701\n"
+                + "Short Row,short@example.com\n";
+
+        // Act
+        ImportSummaryResponseDto summary = service(2, 2, 10).importEmployees(input(csv));
+
+        // Assert
+        assertThat(summary.getRowsRead()).isEqualTo(4);
+        assertThat(summary.getImported()).isEqualTo(1);
+        assertThat(summary.getRejected()).isEqualTo(3);
+        List<List<String>> rejected = readRejectedRows(Path.of(summary.getRejectedRowsFile()));
+        assertThat(rejected).extracting(row -> row.get(0)).containsExactlyInAnyOrder("3", "4", "5");
+        assertThat(rejected).filteredOn(row -> row.get(0).equals("4")).singleElement()
+                .satisfies(row -> assertThat(row.get(5)).isEqualTo("2 Main Street\nApartment 3"));
+    }
+
+    @Test
+    void testImportEmployees_DeletesTheRejectedRowsFileWhenNothingWasRejected() throws Exception {
+        // Arrange
+        when(employeeService.createEmployees(anyList())).thenAnswer(invocation -> results(invocation.getArgument(0)));
+
+        // Act
+        ImportSummaryResponseDto summary = service(1, 10, 10).importEmployees(input(
+                HEADER + "John Doe,john.doe@example.com,1234567890,1 Main Street,Springfield,IL,62701\n"));
+
+        // Assert
+        assertThat(summary.getImported()).isEqualTo(1);
+        assertThat(summary.getRejectedRowsFile()).isNull();
+        try (var files = Files.list(rejectedRowsDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void testImportEmployees_FailsInsteadOfBlockingWhenAWorkerDies() {
+        // Arrange
+        when(employeeService.createEmployees(anyList())).thenThrow(new StackOverflowError());
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 1_000; i++) {
+            csv.append("Employee ").append(i).append(",employee").append(i)
+                    .append("@example.com,1234567890,1 Main Street,Springfield,IL,62701\n");
+        }
+        EmployeeImportService service = service(1, 1, 1);
+
+        // Act & Assert
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                assertThatThrownBy(() -> service.importEmployees(input(csv.toString())))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasCauseInstanceOf(StackOverflowError.class));
+    }
+
+    @Test
+    void testImportEmployees_RejectsAnUnterminatedQuoteAndStopsReading() throws Exception {
+        // Arrange: the stray quote would swallow every following row
+        when(employeeService.createEmployees(anyList())).thenAnswer(invocation -> results(invocation.getArgument(0)));
+        StringBuilder csv = new StringBuilder(HEADER)
+                .append("John Doe,john.doe@example.com,1234567890,1 Main Street,Springfield,IL,62701\n")
+                .append("Jane Doe,jane.doe@example.com,1234567890,\"2 Main Street,Springfield,IL,62701\n");
+        for (int i = 0; i < 100; i++) {
+            csv.append("Employee ").append(i).append(",employee").append(i)
+                    .append("@example.com,1234567890,1 Main Street,Springfield,IL,62701\n");
+        }
+
+        // Act
+        ImportSummaryResponseDto summary = service(1, 10, 10).importEmployees(input(csv.toString()));
+
+        // Assert
+        assertThat(summary.getImported()).isEqualTo(1);
+        assertThat(summary.getRejected()).isEqualTo(1);
+        assertThat(summary.getStoppedAtRow()).isEqualTo(3);
+        assertThat(readRejectedRows(Path.of(summary.getRejectedRowsFile()))).singleElement()
+                .satisfies(row -> assertThat(row.get(1)).startsWith("Record longer than " + MAX_RECORD_CHARS + " characters"));
+    }
+
+    @Test
+    void testImportEmployees_RejectsAMalformedHeaderAsABadRequest() {
+        // Act & Assert
+        assertThatThrownBy(() -> service(1, 10, 10).importEmployees(input("name,\"email,phone\n")))
+                .isInstanceOf(InvalidRequestParameterException.class)
+                .hasMessage("Invalid CSV header: Quoted field starting at column 2 is not terminated.");
+    }
+
+    private EmployeeImportService service(int workers, int chunkSize, int queueCapacity) {
+        return new EmployeeImportServiceImpl(employeeService, VALIDATOR_FACTORY.getValidator(),
+                workers, chunkSize, queueCapacity, 100_000, MAX_RECORD_CHARS, rejectedRowsDirectory);
+    }
+
+    /**
+     * @return created for every employee, except a conflict for emails starting with "taken"
+     */
+    private static List<BulkEmployeeResponseDto> results(List<CreateEmployee> employees) {
+        List<BulkEmployeeResponseDto> results = new ArrayList<>();
+        for (int i = 0; i < employees.size(); i++) {
+            boolean taken = employees.get(i).getEmail().startsWith("taken");
+            results.add(BulkEmployeeResponseDto.builder()
+                    .index(i)
+                    .email(employees.get(i).getEmail())
+                    .status(taken ? HttpStatus.CONFLICT : HttpStatus.CREATED)
+                    .message(taken ? "already exists" : "created")
+                    .build());
+        }
+        return results;
+    }
+
+    private static InputStream input(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<List<String>> readRejectedRows(Path file) throws Exception {
+        List<List<String>> rows = new ArrayList<>();
+        try (var reader = Files.newBufferedReader(file)) {
+            CsvUtils.readRecord(reader, Integer.MAX_VALUE);
+            List<String> row;
+            while ((row = CsvUtils.readRecord(reader, Integer.MAX_VALUE)) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
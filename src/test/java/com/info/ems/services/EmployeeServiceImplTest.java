@@ -1,30 +1,42 @@
 package com.info.ems.services;
 
+import com.info.ems.cache.EmployeeCacheInvalidator;
+import com.info.ems.cache.EmployeeEmailFilter;
 import com.info.ems.dtos.request.CreateEmployee;
+import com.info.ems.dtos.response.BulkEmployeeResponseDto;
 import com.info.ems.dtos.response.EmployeeResponseDto;
 import com.info.ems.exceptions.EmployeeAlreadyExistsException;
 import com.info.ems.exceptions.EmployeeNotFoundException;
-import com.info.ems.kafka.producers.AuditLogProducerService;
+import com.info.ems.kafka.events.EmployeeSnapshot;
+import com.info.ems.mapper.AddressMapper;
 import com.info.ems.mapper.EmployeeMapper;
 import com.info.ems.models.Employee;
+import com.info.ems.repositories.AddressRepository;
 import com.info.ems.repositories.EmployeeRepository;
-import com.info.ems.services.EmployeeService;
+import com.info.ems.repositories.projections.EmployeeAddressRow;
+import com.info.ems.services.impl.EmployeeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,9 +49,23 @@ class EmployeeServiceImplTest {
     private EmployeeMapper employeeMapper;
 
     @Mock
-    private AuditLogProducerService auditLogProducerService;
+    private AddressMapper addressMapper;
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private AuditLogOutboxService auditLogOutboxService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EmployeeCacheInvalidator employeeCacheInvalidator;
+
+    @Mock
+    private EmployeeEmailFilter employeeEmailFilter;
 
-    @InjectMocks
     private EmployeeService employeeService;
 
     private CreateEmployee createEmployeeRequest;
@@ -48,26 +74,29 @@ class EmployeeServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
+        employeeService = new EmployeeServiceImpl(employeeRepository, employeeMapper, addressMapper, addressRepository,
+                auditLogOutboxService, entityManager, employeeCacheInvalidator, employeeEmailFilter, 50);
 
-        createEmployeeRequest = new CreateEmployee("John Doe", "john.doe@example.com", "1234567890", null);
-        employeeResponseDto = new EmployeeResponseDto(1L, "John Doe", "john.doe@example.com", "1234567890");
-        employee = new Employee(1L, "John Doe", "john.doe@example.com", "1234567890", null);
+        createEmployeeRequest = new CreateEmployee("John Doe", "john.doe@example.com", "1234567890", List.of());
+        employeeResponseDto = new EmployeeResponseDto(1L, "John Doe", "john.doe@example.com", "1234567890", List.of());
+        employee = new Employee(1L, "John Doe", "john.doe@example.com", "1234567890", LocalDate.now(), new ArrayList<>());
     }
 
     @Test
     void testCreateEmployee_Success() {
         // Arrange
-        when(employeeRepository.findByEmail(createEmployeeRequest.getEmail())).thenReturn(Optional.empty());
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        when(employeeEmailFilter.mightExist(createEmployeeRequest.getEmail())).thenReturn(true);
+        when(employeeRepository.existsByEmail(createEmployeeRequest.getEmail())).thenReturn(false);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(employee);
         when(employeeMapper.toDto(any(Employee.class))).thenReturn(employeeResponseDto);
 
         // Act
         EmployeeResponseDto response = employeeService.createEmployee(createEmployeeRequest);
 
         // Assert
-        verify(employeeRepository).save(any(Employee.class));
-        verify(auditLogProducerService).sendAuditLogEventToKafka(any());
+        verify(employeeRepository).saveAndFlush(any(Employee.class));
+        verify(auditLogOutboxService).record(any());
+        verify(employeeEmailFilter).add("john.doe@example.com");
         assertEquals("John Doe", response.getName());
         assertEquals("john.doe@example.com", response.getEmail());
     }
@@ -75,35 +104,59 @@ class EmployeeServiceImplTest {
     @Test
     void testCreateEmployee_EmployeeAlreadyExists() {
         // Arrange
-        when(employeeRepository.findByEmail(createEmployeeRequest.getEmail())).thenReturn(Optional.of(employee));
+        when(employeeEmailFilter.mightExist(createEmployeeRequest.getEmail())).thenReturn(true);
+        when(employeeRepository.existsByEmail(createEmployeeRequest.getEmail())).thenReturn(true);
 
         // Act & Assert
-        EmployeeAlreadyExistsException thrown = 
+        EmployeeAlreadyExistsException thrown =
             assertThrows(EmployeeAlreadyExistsException.class, () -> employeeService.createEmployee(createEmployeeRequest));
         assertEquals("Employee with email john.doe@example.com already exists.", thrown.getMessage());
     }
 
     @Test
-    void testGetEmployeeById_Success() {
+    void testCreateEmployees_ChecksEveryEmailAgainstTheDatabase() {
         // Arrange
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        CreateEmployee takenOnAnotherNode = new CreateEmployee("Jane Doe", "jane.doe@example.com", "1234567891", List.of());
+        lenient().when(employeeEmailFilter.mightExist(any())).thenReturn(false);
+        when(employeeRepository.findExistingEmails(List.of("john.doe@example.com", "jane.doe@example.com")))
+                .thenReturn(Set.of("jane.doe@example.com"));
+        when(employeeRepository.saveAllAndFlush(anyList())).thenReturn(List.of(employee));
         when(employeeMapper.toDto(any(Employee.class))).thenReturn(employeeResponseDto);
 
+        // Act
+        List<BulkEmployeeResponseDto> results =
+                employeeService.createEmployees(List.of(createEmployeeRequest, takenOnAnotherNode));
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, results.get(0).getStatus());
+        assertEquals(HttpStatus.CONFLICT, results.get(1).getStatus());
+        verify(employeeEmailFilter).add("john.doe@example.com");
+        verify(auditLogOutboxService).recordAll(argThat(events -> events.size() == 1));
+    }
+
+    @Test
+    void testGetEmployeeById_Success() {
+        // Arrange
+        List<EmployeeAddressRow> rows = List.of(mock(EmployeeAddressRow.class));
+        when(employeeRepository.findRowsById(1L)).thenReturn(rows);
+        when(employeeMapper.fromRows(rows)).thenReturn(List.of(employeeResponseDto));
+
         // Act
         EmployeeResponseDto response = employeeService.getEmployeeById(1L);
 
         // Assert
         assertNotNull(response);
         assertEquals("John Doe", response.getName());
+        verify(employeeCacheInvalidator).putIfUnchanged(1L, 0L, employeeResponseDto);
     }
 
     @Test
     void testGetEmployeeById_EmployeeNotFound() {
         // Arrange
-        when(employeeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(employeeRepository.findRowsById(1L)).thenReturn(List.of());
 
         // Act & Assert
-        EmployeeNotFoundException thrown = 
+        EmployeeNotFoundException thrown =
             assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(1L));
         assertEquals("Employee with id 1 not found.", thrown.getMessage());
     }
@@ -111,10 +164,15 @@ class EmployeeServiceImplTest {
     @Test
     void testUpdateEmployee_Success() {
         // Arrange
-        CreateEmployee updateRequest = new CreateEmployee("John Doe Updated", "john.doe.updated@example.com", "0987654321", null);
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
-        when(employeeMapper.toDto(any(Employee.class))).thenReturn(employeeResponseDto);
+        CreateEmployee updateRequest = new CreateEmployee("John Doe Updated", "john.doe.updated@example.com", "0987654321", List.of());
+        when(employeeRepository.findWithAddressesById(1L)).thenReturn(Optional.of(employee));
+        when(employeeEmailFilter.mightExist(updateRequest.getEmail())).thenReturn(false);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(employeeMapper.toSnapshot(any(Employee.class))).thenAnswer(invocation -> snapshot(invocation.getArgument(0)));
+        when(employeeMapper.toDto(any(Employee.class))).thenAnswer(invocation -> {
+            Employee saved = invocation.getArgument(0);
+            return new EmployeeResponseDto(saved.getId(), saved.getName(), saved.getEmail(), saved.getPhone(), List.of());
+        });
 
         // Act
         EmployeeResponseDto response = employeeService.updateEmployee(1L, updateRequest);
@@ -122,16 +180,18 @@ class EmployeeServiceImplTest {
         // Assert
         assertNotNull(response);
         assertEquals("John Doe Updated", response.getName());
+        verify(employeeCacheInvalidator).invalidate(1L);
+        verify(auditLogOutboxService).record(any());
     }
 
     @Test
     void testUpdateEmployee_EmployeeNotFound() {
         // Arrange
-        CreateEmployee updateRequest = new CreateEmployee("John Doe Updated", "john.doe.updated@example.com", "0987654321", null);
-        when(employeeRepository.findById(1L)).thenReturn(Optional.empty());
+        CreateEmployee updateRequest = new CreateEmployee("John Doe Updated", "john.doe.updated@example.com", "0987654321", List.of());
+        when(employeeRepository.findWithAddressesById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
-        EmployeeNotFoundException thrown = 
+        EmployeeNotFoundException thrown =
             assertThrows(EmployeeNotFoundException.class, () -> employeeService.updateEmployee(1L, updateRequest));
         assertEquals("Employee with id 1 not found.", thrown.getMessage());
     }
@@ -139,24 +199,36 @@ class EmployeeServiceImplTest {
     @Test
     void testDeleteEmployee_Success() {
         // Arrange
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.findWithAddressesById(1L)).thenReturn(Optional.of(employee));
 
         // Act
         Map<String, Object> response = employeeService.deleteEmployee(1L);
 
         // Assert
         verify(employeeRepository).delete(employee);
+        verify(employeeCacheInvalidator).invalidate(1L);
         assertEquals(Boolean.TRUE, response.get("deleted"));
     }
 
     @Test
     void testDeleteEmployee_EmployeeNotFound() {
         // Arrange
-        when(employeeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(employeeRepository.findWithAddressesById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
-        EmployeeNotFoundException thrown = 
+        EmployeeNotFoundException thrown =
             assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployee(1L));
         assertEquals("Employee with id 1 not found.", thrown.getMessage());
     }
+
+    private static EmployeeSnapshot snapshot(Employee employee) {
+        return EmployeeSnapshot.builder()
+                .id(employee.getId())
+                .name(employee.getName())
+                .email(employee.getEmail())
+                .phone(employee.getPhone())
+                .hireDate(employee.getHireDate())
+                .addresses(List.of())
+                .build();
+    }
 }
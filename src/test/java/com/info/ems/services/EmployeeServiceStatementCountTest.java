@@ -0,0 +1,127 @@
+package com.info.ems.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.info.ems.dtos.request.CreateAddress;
+import com.info.ems.dtos.request.CreateEmployee;
+import com.info.ems.dtos.request.PatchEmployee;
+import com.info.ems.dtos.response.EmployeePageResponseDto;
+import com.info.ems.dtos.response.EmployeeResponseDto;
+
+/**
+ * Pins the number of SQL statements each employee endpoint issues, so that a lazy-loading
+ * N+1 (for example addresses loaded one employee at a time) fails the build.
+ * <p>
+ * Id sequence calls are left out: with pooled sequences they depend on which tests ran before.
+ * </p>
+ */
+class EmployeeServiceStatementCountTest extends AbstractEmployeeServiceJpaTest {
+
+    private static final int EMPLOYEES = 5;
+    private static final int ADDRESSES_PER_EMPLOYEE = 3;
+
+    private final List<Long> employeeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employeeIds.add(persistEmployee(i, ADDRESSES_PER_EMPLOYEE).getId());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void testGetEmployeeByIdFetchesAddressesInTheSameQuery() {
+        // Act
+        EmployeeResponseDto employee = employeeService.getEmployeeById(employeeIds.get(0));
+
+        // Assert
+        assertThat(employee.getAddresses()).hasSize(ADDRESSES_PER_EMPLOYEE);
+        assertThat(statements()).isEqualTo(1);
+    }
+
+    @Test
+    void testListEmployeesUsesTwoQueriesRegardlessOfPageSize() {
+        // Act
+        EmployeePageResponseDto page = employeeService.listEmployees(0L, EMPLOYEES);
+
+        // Assert
+        assertThat(page.getEmployees()).hasSize(EMPLOYEES)
+                .allSatisfy(employee -> assertThat(employee.getAddresses()).hasSize(ADDRESSES_PER_EMPLOYEE));
+        assertThat(statements()).isEqualTo(2);
+    }
+
+    @Test
+    void testCreateEmployeeInsertsWithoutReading() {
+        // Act
+        employeeService.createEmployee(request("new@example.com", 2));
+        testEntityManager.flush();
+
+        // Assert: employee insert, batched address insert
+        assertThat(statements()).isEqualTo(2);
+    }
+
+    @Test
+    void testUpdateEmployeeLoadsEmployeeAndAddressesOnce() {
+        // Arrange: the existing addresses plus a new one
+        CreateEmployee request = request("employee0@example.com", 1);
+        for (int j = 0; j < ADDRESSES_PER_EMPLOYEE; j++) {
+            request.getAddresses().add(CreateAddress.builder().street(j + " Main St").city("City").state("State").postalCode("1000" + j).build());
+        }
+
+        // Act
+        EmployeeResponseDto employee = employeeService.updateEmployee(employeeIds.get(0), request);
+        testEntityManager.flush();
+
+        // Assert: employee with addresses, address insert, employee update
+        assertThat(employee.getAddresses()).hasSize(ADDRESSES_PER_EMPLOYEE + 1);
+        assertThat(statements()).isEqualTo(3);
+    }
+
+    @Test
+    void testPatchEmployeeWithoutAddressesRunsNoAddressStatements() {
+        // Act
+        EmployeeResponseDto employee = employeeService.patchEmployee(employeeIds.get(0),
+                PatchEmployee.builder().phone("555-9999").build());
+        testEntityManager.flush();
+
+        // Assert: employee with addresses, employee update of the phone column only
+        assertThat(employee.getPhone()).isEqualTo("555-9999");
+        assertThat(employee.getName()).isEqualTo("Employee 0");
+        assertThat(employee.getAddresses()).hasSize(ADDRESSES_PER_EMPLOYEE);
+        assertThat(statements()).isEqualTo(2);
+        assertThat(RecordingStatementInspector.STATEMENTS.get(1)).isEqualTo("update employee set phone=? where id=?");
+    }
+
+    @Test
+    void testDeleteEmployeeLoadsEmployeeAndAddressesOnce() {
+        // Act
+        employeeService.deleteEmployee(employeeIds.get(0));
+        testEntityManager.flush();
+
+        // Assert: employee with addresses, batched address delete, employee delete
+        assertThat(statements()).isEqualTo(3);
+    }
+
+    private static CreateEmployee request(String email, int addresses) {
+        List<CreateAddress> createAddresses = new ArrayList<>();
+        for (int i = 0; i < addresses; i++) {
+            createAddresses.add(CreateAddress.builder().street(i + " Side St").city("Town").state("State").postalCode("2000" + i).build());
+        }
+        return CreateEmployee.builder().name("Name").email(email).phone("555-1234").addresses(createAddresses).build();
+    }
+
+    private static int statements() {
+        return (int) RecordingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> !sql.contains("next value for"))
+                .count();
+    }
+}
@@ -0,0 +1,60 @@
+package com.info.ems.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class AuditLogPartitionServiceImplTest {
+
+    private static final YearMonth CURRENT_MONTH = YearMonth.of(2024, 3);
+
+    @Test
+    void testPartitionMonth_ParsesOnlyMonthlyPartitions() {
+        // Act & Assert
+        assertThat(AuditLogPartitionServiceImpl.partitionMonth("p202312")).isEqualTo(YearMonth.of(2023, 12));
+        assertThat(AuditLogPartitionServiceImpl.partitionMonth("pmax")).isNull();
+        assertThat(AuditLogPartitionServiceImpl.partitionMonth("p2023")).isNull();
+        assertThat(AuditLogPartitionServiceImpl.partitionMonth("p202313")).isNull();
+        assertThat(AuditLogPartitionServiceImpl.partitionMonth("legacy")).isNull();
+    }
+
+    @Test
+    void testExpiredPartitions_KeepsTheRetentionMonthsBeforeTheCurrentOne() {
+        // Arrange
+        List<String> partitions = List.of("p202301", "p202302", "p202303", "p202304", "p202403", "pmax", "legacy");
+
+        // Act
+        List<String> expired = AuditLogPartitionServiceImpl.expiredPartitions(partitions, CURRENT_MONTH, 12);
+
+        // Assert
+        // Twelve months before March 2024 is March 2023, the oldest month kept
+        assertThat(expired).containsExactly("p202301", "p202302");
+    }
+
+    @Test
+    void testExpiredPartitions_ExpiresEveryPastMonthWithoutRetention() {
+        // Arrange
+        List<String> partitions = List.of("p202401", "p202402", "p202403", "pmax");
+
+        // Act
+        List<String> expired = AuditLogPartitionServiceImpl.expiredPartitions(partitions, CURRENT_MONTH, 0);
+
+        // Assert
+        assertThat(expired).containsExactly("p202401", "p202402");
+    }
+
+    @Test
+    void testMissingMonths_CoversTheCurrentMonthAndTheMonthsAheadAcrossTheYearEnd() {
+        // Arrange
+        List<String> partitions = List.of("p202411", "p202412", "pmax");
+
+        // Act
+        List<YearMonth> missing = AuditLogPartitionServiceImpl.missingMonths(partitions, YearMonth.of(2024, 11), 3);
+
+        // Assert
+        assertThat(missing).containsExactly(YearMonth.of(2025, 1), YearMonth.of(2025, 2));
+    }
+}
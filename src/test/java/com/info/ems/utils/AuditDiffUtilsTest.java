@@ -0,0 +1,77 @@
+package com.info.ems.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.info.ems.kafka.events.EmployeeSnapshot;
+import com.info.ems.kafka.events.EmployeeSnapshot.AddressSnapshot;
+import com.info.ems.kafka.events.FieldChange;
+
+class AuditDiffUtilsTest {
+
+    @Test
+    void testOnlyChangedFieldsAreReported() {
+        // Arrange
+        EmployeeSnapshot before = employee("jane@example.com", "111", List.of(address(7L, "Springfield")));
+        EmployeeSnapshot after = employee("jane.doe@example.com", "111", List.of(address(7L, "Springfield")));
+
+        // Act
+        List<FieldChange> changes = AuditDiffUtils.diff(before, after);
+
+        // Assert
+        assertThat(changes).containsExactly(new FieldChange("email", "jane@example.com", "jane.doe@example.com"));
+    }
+
+    @Test
+    void testAddressesAreMatchedById() {
+        // Arrange
+        EmployeeSnapshot before = employee("jane@example.com", "111",
+                List.of(address(7L, "Springfield"), address(8L, "Shelbyville")));
+        EmployeeSnapshot after = employee("jane@example.com", "111",
+                List.of(address(8L, "Capital City"), address(9L, "Ogdenville")));
+
+        // Act
+        List<FieldChange> changes = AuditDiffUtils.diff(before, after);
+
+        // Assert
+        assertThat(changes).containsExactly(
+                new FieldChange("addresses[7].street", "1 Main St", null),
+                new FieldChange("addresses[7].city", "Springfield", null),
+                new FieldChange("addresses[7].state", "IL", null),
+                new FieldChange("addresses[7].postalCode", "62701", null),
+                new FieldChange("addresses[8].city", "Shelbyville", "Capital City"),
+                new FieldChange("addresses[9].street", null, "1 Main St"),
+                new FieldChange("addresses[9].city", null, "Ogdenville"),
+                new FieldChange("addresses[9].state", null, "IL"),
+                new FieldChange("addresses[9].postalCode", null, "62701"));
+    }
+
+    @Test
+    void testNoChanges() {
+        // Arrange
+        EmployeeSnapshot before = employee("jane@example.com", "111", List.of(address(7L, "Springfield")));
+        EmployeeSnapshot after = employee("jane@example.com", "111", List.of(address(7L, "Springfield")));
+
+        // Act & Assert
+        assertThat(AuditDiffUtils.diff(before, after)).isEmpty();
+    }
+
+    private static EmployeeSnapshot employee(String email, String phone, List<AddressSnapshot> addresses) {
+        return EmployeeSnapshot.builder()
+                .id(42L)
+                .name("Jane Doe")
+                .email(email)
+                .phone(phone)
+                .hireDate(LocalDate.of(2021, 6, 1))
+                .addresses(addresses)
+                .build();
+    }
+
+    private static AddressSnapshot address(Long id, String city) {
+        return AddressSnapshot.builder().id(id).street("1 Main St").city(city).state("IL").postalCode("62701").build();
+    }
+}
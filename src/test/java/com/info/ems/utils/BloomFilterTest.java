@@ -0,0 +1,67 @@
+package com.info.ems.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    void testMightContain_NeverMissesAnAddedValue() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // Act
+        IntStream.range(0, 10_000).forEach(i -> filter.add("employee" + i + "@example.com"));
+
+        // Assert
+        assertThat(IntStream.range(0, 10_000))
+                .allMatch(i -> filter.mightContain("employee" + i + "@example.com"));
+    }
+
+    @Test
+    void testMightContain_KeepsFalsePositivesNearTheConfiguredProbability() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("employee" + i + "@example.com"));
+
+        // Act
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("candidate" + i + "@example.com"))
+                .count();
+
+        // Assert
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    void testMightContain_NeverMissesAValueAddedConcurrently() throws Exception {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        Thread[] threads = new Thread[4];
+
+        // Act: the values of each thread share words of the bit array with those of the others
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = Thread.ofPlatform().start(() -> IntStream.range(0, 2_500)
+                    .forEach(i -> filter.add("employee" + (i * threads.length + offset) + "@example.com")));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertThat(IntStream.range(0, 10_000))
+                .allMatch(i -> filter.mightContain("employee" + i + "@example.com"));
+    }
+
+    @Test
+    void testConstructor_RejectsInvalidSizing() {
+        // Act & Assert
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(1_000, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,113 @@
+package com.info.ems.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+class CsvUtilsTest {
+
+    private static final int MAX_RECORD_CHARS = 64;
+
+    @Test
+    void testReadRecord_SplitsPlainFieldsAndKeepsEmptyOnes() throws Exception {
+        // Arrange
+        BufferedReader reader = reader("John Doe,,1234567890\r\nJane Doe,jane@example.com,\n");
+
+        // Act & Assert
+        assertThat(CsvUtils.readRecord(reader, MAX_RECORD_CHARS)).containsExactly("John Doe", "", "1234567890");
+        assertThat(CsvUtils.readRecord(reader, MAX_RECORD_CHARS)).containsExactly("Jane Doe", "jane@example.com", "");
+        assertThat(CsvUtils.readRecord(reader, MAX_RECORD_CHARS)).isNull();
+    }
+
+    @Test
+    void testReadRecord_UnquotesSeparatorsAndEscapedQuotes() throws Exception {
+        // Arrange
+        BufferedReader reader = reader("\"Doe, John\",\"say \"\"hi\"\"\",\"\"\n");
+
+        // Act & Assert
+        assertThat(CsvUtils.readRecord(reader, MAX_RECORD_CHARS)).containsExactly("Doe, John", "say \"hi\"", "");
+    }
+
+    @Test
+    void testReadRecord_KeepsLineBreaksInsideQuotedFields() throws Exception {
+        // Arrange
+        BufferedReader reader = reader("\"1 Main Street\nApartment 2\",Springfield\nnext,row");
+
+        // Act & Assert
+        assertThat(CsvUtils.readRecord(reader, MAX_RECORD_CHARS)).containsExactly("1 Main Street\nApartment 2", "Springfield");
+        assertThat(CsvUtils.readRecord(reader, MAX_RECORD_CHARS)).containsExactly("next", "row");
+        assertThat(CsvUtils.readRecord(reader, MAX_RECORD_CHARS)).isNull();
+    }
+
+    @Test
+    void testReadRecord_ReadsAQuotedFieldEndingTheInput() throws Exception {
+        // Arrange
+        BufferedReader reader = reader("a,\"b\"");
+
+        // Act & Assert
+        assertThat(CsvUtils.readRecord(reader, MAX_RECORD_CHARS)).containsExactly("a", "b");
+        assertThat(CsvUtils.readRecord(reader, MAX_RECORD_CHARS)).isNull();
+    }
+
+    @Test
+    void testReadRecord_ReadsARecordOfTheMaximumLength() throws Exception {
+        // Arrange: the line break does not count
+        BufferedReader reader = reader("a".repeat(MAX_RECORD_CHARS - 2) + ",b\r\nnext");
+
+        // Act & Assert
+        assertThat(CsvUtils.readRecord(reader, MAX_RECORD_CHARS)).containsExactly("a".repeat(MAX_RECORD_CHARS - 2), "b");
+        assertThat(CsvUtils.readRecord(reader, MAX_RECORD_CHARS)).containsExactly("next");
+    }
+
+    @Test
+    void testReadRecord_RejectsARecordLongerThanTheMaximumWithoutReadingTheRest() throws Exception {
+        // Arrange: a stray quote turns every following line into one field
+        String rest = "x,y,z\n".repeat(1_000);
+        BufferedReader reader = reader("name,\"email,phone\n" + rest);
+
+        // Act & Assert
+        assertThatThrownBy(() -> CsvUtils.readRecord(reader, MAX_RECORD_CHARS))
+                .isInstanceOf(CsvFormatException.class)
+                .hasMessage("Record longer than " + MAX_RECORD_CHARS
+                        + " characters, the quoted field starting at column 2 is probably not terminated")
+                .satisfies(ex -> assertThat(((CsvFormatException) ex).getFields())
+                        .hasSize(2)
+                        .first().isEqualTo("name"));
+        assertThat(reader.lines().count()).isLessThan(1_000);
+    }
+
+    @Test
+    void testReadRecord_RejectsAQuotedFieldEndingTheInputUnterminated() throws Exception {
+        // Arrange
+        BufferedReader reader = reader("a,\"b\nc");
+
+        // Act & Assert
+        assertThatThrownBy(() -> CsvUtils.readRecord(reader, MAX_RECORD_CHARS))
+                .isInstanceOf(CsvFormatException.class)
+                .hasMessage("Quoted field starting at column 2 is not terminated")
+                .satisfies(ex -> assertThat(((CsvFormatException) ex).getFields()).containsExactly("a", "b\nc"));
+    }
+
+    @Test
+    void testWriteRecord_IsReadBackUnchanged() throws Exception {
+        // Arrange
+        StringWriter writer = new StringWriter();
+
+        // Act
+        CsvUtils.writeRecord(writer, "Doe, John", "say \"hi\"", "line\nbreak", null, 42);
+
+        // Assert
+        assertThat(writer.toString()).isEqualTo("\"Doe, John\",\"say \"\"hi\"\"\",\"line\nbreak\",,42\n");
+        assertThat(CsvUtils.readRecord(reader(writer.toString()), MAX_RECORD_CHARS))
+                .containsExactly("Doe, John", "say \"hi\"", "line\nbreak", "", "42");
+    }
+
+    private static BufferedReader reader(String csv) {
+        return new BufferedReader(new StringReader(csv));
+    }
+}